@@ -17,10 +17,46 @@ CREATE TABLE IF NOT EXISTS scores (
     missed_shots INT NOT NULL,
     remaining_bullets INT NOT NULL,
     yeti_killed INT NOT NULL,
-    difficulty ENUM('EASY', 'MEDIUM', 'HARD') NOT NULL,
+    difficulty ENUM('EASY', 'MEDIUM', 'HARD', 'ENDLESS') NOT NULL,
     mode ENUM('OFFLINE', 'ONLINE') NOT NULL,
     played_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     -- Foreign Key agar data integritas terjaga
     CONSTRAINT fk_score_player FOREIGN KEY (player_id) 
         REFERENCES players(id) ON DELETE CASCADE
 );
+
+-- 4. Tabel Leaderboard (Ringkasan skor terbaik per player & tingkat kesulitan)
+-- Diperbarui oleh aplikasi melalui INSERT ... ON DUPLICATE KEY UPDATE setiap kali skor diunggah
+CREATE TABLE IF NOT EXISTS leaderboard_best (
+    player_id INT NOT NULL,
+    difficulty ENUM('EASY', 'MEDIUM', 'HARD', 'ENDLESS') NOT NULL,
+    score INT NOT NULL,
+    missed_shots INT NOT NULL,
+    remaining_bullets INT NOT NULL,
+    PRIMARY KEY (player_id, difficulty),
+    -- Indeks komposit untuk paginasi keyset (score DESC, player_id)
+    INDEX idx_leaderboard_rank (difficulty, score DESC, player_id),
+    CONSTRAINT fk_leaderboard_player FOREIGN KEY (player_id)
+        REFERENCES players(id) ON DELETE CASCADE
+);
+
+-- 5. Migrasi: isi leaderboard_best dari data skor yang sudah ada
+INSERT INTO leaderboard_best (player_id, difficulty, score, missed_shots, remaining_bullets)
+SELECT hs.player_id, hs.difficulty, hs.score, hs.missed_shots, ls.remaining_bullets
+FROM (
+    SELECT player_id, difficulty, score, missed_shots,
+    ROW_NUMBER() OVER (PARTITION BY player_id, difficulty ORDER BY score DESC, played_at DESC, id DESC) AS rn
+    FROM scores WHERE mode = 'ONLINE'
+) hs
+JOIN (
+    SELECT player_id, difficulty, remaining_bullets,
+    ROW_NUMBER() OVER (PARTITION BY player_id, difficulty ORDER BY played_at DESC, id DESC) AS rn
+    FROM scores WHERE mode = 'ONLINE'
+) ls ON ls.player_id = hs.player_id AND ls.difficulty = hs.difficulty AND ls.rn = 1
+WHERE hs.rn = 1
+ON DUPLICATE KEY UPDATE score = VALUES(score), missed_shots = VALUES(missed_shots),
+    remaining_bullets = VALUES(remaining_bullets);
+
+-- 6. Migrasi: tambahkan tingkat kesulitan ENDLESS pada database yang sudah ada
+ALTER TABLE scores MODIFY difficulty ENUM('EASY', 'MEDIUM', 'HARD', 'ENDLESS') NOT NULL;
+ALTER TABLE leaderboard_best MODIFY difficulty ENUM('EASY', 'MEDIUM', 'HARD', 'ENDLESS') NOT NULL;
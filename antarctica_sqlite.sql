@@ -12,7 +12,7 @@ CREATE TABLE IF NOT EXISTS scores (
     missed_shots INTEGER NOT NULL,
     remaining_bullets INTEGER NOT NULL,
     yeti_killed INTEGER NOT NULL,
-    difficulty TEXT NOT NULL CHECK(difficulty IN ('EASY', 'MEDIUM', 'HARD')),
+    difficulty TEXT NOT NULL CHECK(difficulty IN ('EASY', 'MEDIUM', 'HARD', 'ENDLESS')),
     mode TEXT NOT NULL CHECK(mode IN ('OFFLINE', 'ONLINE')),
     played_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (player_id) REFERENCES players(id)
@@ -23,6 +23,19 @@ CREATE TABLE IF NOT EXISTS settings (
     id INTEGER PRIMARY KEY CHECK (id = 1), -- Memastikan hanya ada 1 baris setting
     music_volume INTEGER DEFAULT 50,
     sfx_volume INTEGER DEFAULT 50,
-    last_difficulty TEXT DEFAULT 'EASY' CHECK(last_difficulty IN ('EASY', 'MEDIUM', 'HARD')),
+    last_difficulty TEXT DEFAULT 'EASY' CHECK(last_difficulty IN ('EASY', 'MEDIUM', 'HARD', 'ENDLESS')),
     last_mode TEXT DEFAULT 'OFFLINE' CHECK(last_mode IN ('OFFLINE', 'ONLINE'))
 );
+
+-- 4. Tabel Statistik Player (Ringkasan skor terbaik & amunisi terakhir per tingkat kesulitan)
+CREATE TABLE IF NOT EXISTS player_stats (
+    player_id INTEGER NOT NULL,
+    difficulty TEXT NOT NULL CHECK(difficulty IN ('EASY', 'MEDIUM', 'HARD', 'ENDLESS')),
+    best_score INTEGER NOT NULL,
+    best_missed INTEGER NOT NULL,
+    last_bullets INTEGER NOT NULL,
+    PRIMARY KEY (player_id, difficulty),
+    FOREIGN KEY (player_id) REFERENCES players(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_player_stats_rank ON player_stats (difficulty, best_score DESC);
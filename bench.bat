@@ -0,0 +1,26 @@
+@echo off
+setlocal
+
+echo ============================================
+echo   The Last Penguin: Yeti Siege - Benchmarks
+echo ============================================
+echo.
+
+:: Compile game sources together with the benchmark suite
+if exist build-bench rmdir /s /q build-bench
+mkdir build-bench
+dir /s /b src\*.java bench\*.java > bench_sources.txt
+javac -d build-bench -cp "lib/*" @bench_sources.txt
+if errorlevel 1 (
+    echo ERROR: Compilation failed!
+    del bench_sources.txt
+    pause
+    exit /b 1
+)
+del bench_sources.txt
+
+:: Run against a scratch database so the real leaderboard is untouched.
+:: Optional first argument filters benchmarks by name, e.g. bench.bat checkCollisions
+java -Xms1g -Xmx1g -Dlastpenguin.dataDir=build-bench\data -cp "build-bench;res;lib/*" com.lastpenguin.bench.BenchmarkMain %1
+
+pause
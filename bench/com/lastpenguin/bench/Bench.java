@@ -0,0 +1,114 @@
+package com.lastpenguin.bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Minimal time-boxed micro-benchmark harness.
+ * Each benchmark runs a warm-up phase followed by several measured iterations of a
+ * fixed wall-clock length. Besides the average time per operation it reports the
+ * bytes allocated per operation (from the thread allocation counter) and the number
+ * of collections and GC time observed during measurement, so allocation regressions
+ * show up next to latency regressions.
+ */
+public final class Bench {
+
+    /**
+     * A single benchmarked operation.
+     */
+    public interface Op {
+        void run() throws Exception;
+    }
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURE_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = Long.getLong("bench.iterationMs", 1000L) * 1_000_000L;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private static String filter = "";
+    private static boolean headerPrinted = false;
+
+    private Bench() {}
+
+    /**
+     * Restricts which benchmarks run to those whose name contains the given text.
+     */
+    public static void setFilter(String text) { filter = text; }
+
+    /**
+     * Checks whether a benchmark passes the active name filter; used to skip expensive setups.
+     */
+    public static boolean selected(String name) { return name.contains(filter); }
+
+    /**
+     * Warms up and measures an operation, then prints one result row.
+     * @param name Benchmark name, e.g. {@code GamePresenter.update}.
+     * @param params Human-readable parameter values, e.g. {@code yetis=100}.
+     */
+    public static void run(String name, String params, Op op) throws Exception {
+        if (!selected(name)) return;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) iterate(op);
+
+        long threadId = Thread.currentThread().getId();
+        long gcCount0 = gcCount(), gcTime0 = gcTime();
+        long alloc0 = THREADS.getThreadAllocatedBytes(threadId);
+
+        double[] nsPerOp = new double[MEASURE_ITERATIONS];
+        long totalOps = 0;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            long ops = iterate(op);
+            nsPerOp[i] = (System.nanoTime() - start) / (double) ops;
+            totalOps += ops;
+        }
+
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - alloc0;
+        long gcCount = gcCount() - gcCount0, gcTime = gcTime() - gcTime0;
+
+        double mean = 0;
+        for (double v : nsPerOp) mean += v;
+        mean /= MEASURE_ITERATIONS;
+        double variance = 0;
+        for (double v : nsPerOp) variance += (v - mean) * (v - mean);
+        double stdDev = Math.sqrt(variance / (MEASURE_ITERATIONS - 1));
+
+        if (!headerPrinted) {
+            System.out.printf("%-40s %-28s %14s %12s %14s %8s %8s%n",
+                    "Benchmark", "Params", "ns/op", "error", "alloc B/op", "gc.count", "gc.ms");
+            headerPrinted = true;
+        }
+        System.out.printf("%-40s %-28s %14.1f %12.1f %14.1f %8d %8d%n",
+                name, params, mean, stdDev, allocated / (double) totalOps, gcCount, gcTime);
+    }
+
+    /**
+     * Runs the operation repeatedly for one iteration window.
+     * @return The number of operations completed (always at least one).
+     */
+    private static long iterate(Op op) throws Exception {
+        long deadline = System.nanoTime() + ITERATION_NANOS;
+        long ops = 0;
+        do {
+            op.run();
+            ops++;
+        } while (System.nanoTime() < deadline);
+        return ops;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) total += Math.max(0, gc.getCollectionCount());
+        return total;
+    }
+
+    private static long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) total += Math.max(0, gc.getCollectionTime());
+        return total;
+    }
+}
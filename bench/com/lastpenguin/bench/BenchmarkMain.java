@@ -0,0 +1,22 @@
+package com.lastpenguin.bench;
+
+import com.lastpenguin.model.PersistenceBenchmark;
+import com.lastpenguin.presenter.SimulationBenchmark;
+import com.lastpenguin.view.ParticleBenchmark;
+
+/**
+ * Entry point for the benchmark suite.
+ * An optional argument restricts the run to benchmarks whose name contains it,
+ * e.g. {@code checkCollisions} or {@code SQLiteManager}.
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length > 0) Bench.setFilter(args[0]);
+
+        SimulationBenchmark.runAll();
+        ParticleBenchmark.runAll();
+        PersistenceBenchmark.runAll();
+    }
+}
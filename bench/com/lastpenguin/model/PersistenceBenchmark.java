@@ -0,0 +1,81 @@
+package com.lastpenguin.model;
+
+import com.lastpenguin.bench.Bench;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Random;
+
+/**
+ * Benchmarks for the local SQLite persistence paths.
+ * Runs against the database selected by {@code -Dlastpenguin.dataDir}, which the
+ * benchmark launcher points at a scratch directory. The scores table is seeded with
+ * synthetic sessions from 1,000 distinct players before each parameter step.
+ */
+public class PersistenceBenchmark {
+    private static final int[] ROWS = {1_000, 100_000, 1_000_000};
+    private static final int PLAYERS = 1_000;
+
+    public static void runAll() throws Exception {
+        if (!Bench.selected("SQLiteManager")) return;
+
+        SQLiteManager.initDatabase();
+        int seeded = 0;
+        for (int rows : ROWS) {
+            seed(seeded, rows);
+            seeded = rows;
+
+            Random random = new Random(7);
+            Bench.run("SQLiteManager.getLeaderboardData", "rows=" + rows,
+                    () -> SQLiteManager.getLeaderboardData(GameSettings.MEDIUM));
+            Bench.run("SQLiteManager.saveScore", "rows=" + rows,
+                    () -> SQLiteManager.saveScore("player" + random.nextInt(PLAYERS), random.nextInt(5000),
+                            random.nextInt(50), random.nextInt(20), random.nextInt(100),
+                            GameSettings.MEDIUM, GameSettings.OFFLINE));
+        }
+    }
+
+    /**
+     * Grows the scores table from {@code from} to {@code to} rows in batched transactions.
+     */
+    private static void seed(int from, int to) throws Exception {
+        Random random = new Random(from);
+        String[] difficulties = {GameSettings.EASY, GameSettings.MEDIUM, GameSettings.HARD};
+        try (Connection conn = SQLiteManager.connect()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                if (from == 0) {
+                    stmt.execute("DELETE FROM player_stats");
+                    stmt.execute("DELETE FROM scores");
+                    stmt.execute("DELETE FROM players");
+                }
+            }
+            try (PreparedStatement ps = conn.prepareStatement("INSERT OR IGNORE INTO players (id, username) VALUES (?, ?)")) {
+                for (int p = 1; p <= PLAYERS; p++) {
+                    ps.setInt(1, p);
+                    ps.setString(2, "player" + (p - 1));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO scores (player_id, score, yeti_killed, missed_shots, remaining_bullets, difficulty, mode) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, 'OFFLINE')")) {
+                for (int i = from; i < to; i++) {
+                    ps.setInt(1, 1 + random.nextInt(PLAYERS));
+                    ps.setInt(2, random.nextInt(5000));
+                    ps.setInt(3, random.nextInt(50));
+                    ps.setInt(4, random.nextInt(20));
+                    ps.setInt(5, random.nextInt(100));
+                    ps.setString(6, difficulties[i % 3]);
+                    ps.addBatch();
+                    if (i % 10_000 == 0) ps.executeBatch();
+                }
+                ps.executeBatch();
+            }
+            // Rows were inserted behind saveScores' back, so derive the summary table from them
+            SQLiteManager.rebuildPlayerStats(conn);
+            conn.commit();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.lastpenguin.presenter;
+
+import com.lastpenguin.bench.Bench;
+import com.lastpenguin.model.*;
+import java.util.Random;
+
+/**
+ * Benchmarks for the simulation hot paths of {@link GamePresenter}.
+ * Lives in the presenter package so it can time the individual tick phases.
+ * Each session is headless; populations are topped up to their target size before
+ * every operation so kills and projectiles leaving the arena do not drain the workload.
+ */
+public class SimulationBenchmark {
+    private static final int[] YETIS = {10, 100, 1000};
+    private static final int[] PROJECTILES = {10, 100, 1000};
+    private static final int[] OBSTACLES = {5, 40};
+
+    private final Random random = new Random(42);
+    private final GamePresenter game;
+    private final int yetiTarget, projectileTarget;
+
+    private SimulationBenchmark(int yetis, int projectiles, int obstacles, boolean ghost) {
+        Player player = new Player("bench", 1000);
+        if (ghost) player.setGhostDuration(Integer.MAX_VALUE);
+        // Fixed seed so obstacle placement and enemy decisions are identical between runs
+        game = GamePresenter.headless(player, new GameSettings(), new ScriptedInput(), 42);
+        yetiTarget = yetis;
+        projectileTarget = projectiles;
+
+        // Crowd the arena beyond the five regular obstacles
+        for (int i = game.getObstacles().size(); i < obstacles; i++) {
+            game.addObstacle(new Obstacle(random.nextInt(720), random.nextInt(520), 80, 80, 30));
+        }
+        topUp();
+    }
+
+    private void topUp() {
+        EntityWorld world = game.getWorld();
+        while (world.count(EntityWorld.YETI) < yetiTarget) {
+            world.spawnYeti(random.nextInt(740), random.nextInt(540), 1);
+        }
+        while (world.count(EntityWorld.PROJECTILE) < projectileTarget) {
+            byte owner = random.nextBoolean() ? EntityWorld.OWNER_YETI : EntityWorld.OWNER_PLAYER;
+            world.spawnProjectile(random.nextInt(800), random.nextInt(600), random.nextDouble() - 0.5,
+                    random.nextDouble() - 0.5, 6, owner, false);
+        }
+    }
+
+    public static void runAll() throws Exception {
+        for (int y : YETIS) {
+            for (int p : PROJECTILES) {
+                SimulationBenchmark b = new SimulationBenchmark(y, p, 5, true);
+                Bench.run("GamePresenter.update", "yetis=" + y + " projectiles=" + p, () -> {
+                    b.topUp();
+                    b.game.update();
+                });
+            }
+        }
+        for (int y : YETIS) {
+            for (int p : PROJECTILES) {
+                SimulationBenchmark b = new SimulationBenchmark(y, p, 40, true);
+                Bench.run("GamePresenter.checkCollisions", "yetis=" + y + " projectiles=" + p, () -> {
+                    b.topUp();
+                    b.game.checkCollisions();
+                });
+            }
+        }
+        for (int y : YETIS) {
+            for (int o : OBSTACLES) {
+                SimulationBenchmark b = new SimulationBenchmark(y, 0, o, false);
+                Bench.run("GamePresenter.handleMovement", "yetis=" + y + " obstacles=" + o, b.game::handleMovement);
+            }
+        }
+        for (int o : OBSTACLES) {
+            SimulationBenchmark b = new SimulationBenchmark(0, 0, o, false);
+            Bench.run("GamePresenter.spawnOneRandomObstacle", "obstacles=" + o, () -> {
+                b.game.spawnOneRandomObstacle();
+                b.game.removeObstacle(b.game.getObstacles().size() - 1);
+            });
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.lastpenguin.view;
+
+import com.lastpenguin.bench.Bench;
+import com.lastpenguin.model.ParticleSystem;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmarks for the particle simulation and its batched draw pass.
+ * Bursts are re-emitted before every operation so the live population stays at the target.
+ */
+public class ParticleBenchmark {
+    private static final int[] PARTICLES = {1000, 10000, 16000};
+
+    private final ParticleSystem particles = new ParticleSystem(new SplittableRandom(42));
+    private final SplittableRandom random = new SplittableRandom(7);
+    private final int target;
+
+    private ParticleBenchmark(int target) {
+        this.target = target;
+        topUp();
+    }
+
+    private void topUp() {
+        while (particles.size() < target) {
+            int x = random.nextInt(800), y = random.nextInt(600);
+            switch (random.nextInt(4)) {
+                case 0: particles.emitYetiDeath(x, y); break;
+                case 1: particles.emitObstacleBreak(x, y); break;
+                case 2: particles.emitMeteorImpact(x, y); break;
+                default: particles.emitFootstep(x, y); break;
+            }
+        }
+    }
+
+    public static void runAll() throws Exception {
+        for (int n : PARTICLES) {
+            ParticleBenchmark b = new ParticleBenchmark(n);
+            Bench.run("ParticleSystem.update", "particles=" + n, () -> {
+                b.topUp();
+                b.particles.savePreviousPositions();
+                b.particles.update();
+            });
+        }
+
+        // Software surface of the game's size; the on-screen VolatileImage is usually faster
+        BufferedImage frame = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        BufferedImage footstep = new BufferedImage(18, 12, BufferedImage.TYPE_INT_ARGB_PRE);
+        ParticleRenderer renderer = new ParticleRenderer(footstep);
+        for (int n : PARTICLES) {
+            ParticleBenchmark b = new ParticleBenchmark(n);
+            Bench.run("ParticleRenderer.draw", "particles=" + n, () -> {
+                b.topUp();
+                Graphics2D g = frame.createGraphics();
+                renderer.prepare(b.particles);
+                renderer.drawGround(g, b.particles);
+                renderer.drawAir(g, b.particles, 0.5f);
+                g.dispose();
+            });
+        }
+    }
+}
@@ -13,7 +13,11 @@ import com.lastpenguin.view.*;
 import com.lastpenguin.presenter.GamePresenter;
 import javax.swing.*;
 import java.awt.event.ActionListener;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Entry point of the application. Manages the primary application flow,
@@ -28,17 +32,33 @@ public class Main {
 
     /**
      * Initializes the local database, loads user configurations, 
-     * and launches the graphical user interface.
+     * and launches the graphical user interface behind a loading screen
+     * while the assets decode in the background.
      */
     public static void main(String[] args) {
+        // Start decoding images, fonts and sounds first so it overlaps the database setup
+        CompletableFuture<Void> assets = AssetRegistry.preloadAll();
+
         SQLiteManager.initDatabase();
+        ScoreQueue.start();
+        LeaderboardCache.setListener(Main::onLeaderboardUpdated);
+        LeaderboardCache.prefetch(GameSettings.OFFLINE);
         currentSettings = SQLiteManager.loadSettings();
+        // Online boards are only fetched up front when they are wanted or the server is reachable
+        if (GameSettings.ONLINE.equals(currentSettings.getMode())) LeaderboardCache.prefetch(GameSettings.ONLINE);
+        else LeaderboardCache.prefetchOnlineIfReachable();
         soundManager.setSettings(currentSettings);
 
         SwingUtilities.invokeLater(() -> {
             window = new GameWindow();
             window.initWindow();
-            showMenu();
+            LoadingPanel loading = new LoadingPanel();
+            window.setView(loading);
+
+            assets.whenComplete((v, e) -> SwingUtilities.invokeLater(() -> {
+                loading.dispose();
+                showMenu();
+            }));
         });
     }
 
@@ -67,19 +87,29 @@ public class Main {
     }
 
     /**
-     * Updates the leaderboard data in the menu view by fetching records 
-     * from either the global MySQL server or the local SQLite database.
+     * Updates the leaderboard data in the menu view with the cached rows for the
+     * current mode and difficulty. Stale rows are refreshed in the background and
+     * delivered through {@link #onLeaderboardUpdated}.
      */
     private static void refreshMenuLeaderboard() {
-        List<Object[]> data;
-        if (currentSettings.getMode().equals(GameSettings.ONLINE)) {
-            data = MySQLManager.getGlobalLeaderboard(currentSettings.getDifficulty());
-            System.out.println("[INFO] Memuat Leaderboard Global (MySQL)");
-        } else {
-            data = SQLiteManager.getLeaderboardData(currentSettings.getDifficulty());
-            System.out.println("[INFO] Memuat Leaderboard Lokal (SQLite)");
-        }
-        menuView.setLeaderboardData(data);
+        menuView.setLeaderboardData(
+                LeaderboardCache.get(currentSettings.getMode(), currentSettings.getDifficulty()));
+    }
+
+    /**
+     * Pushes freshly loaded leaderboard rows into the menu if it is still showing that board.
+     * Called from the cache's loader threads.
+     */
+    private static void onLeaderboardUpdated(String mode, String difficulty, List<Object[]> rows) {
+        SwingUtilities.invokeLater(() -> {
+            if (menuView == null || !menuView.isShowing()) return;
+            if (mode.equals(currentSettings.getMode()) && difficulty.equals(currentSettings.getDifficulty())) {
+                menuView.setLeaderboardData(rows);
+                System.out.println(GameSettings.ONLINE.equals(mode)
+                        ? "[INFO] Memuat Leaderboard Global (MySQL)"
+                        : "[INFO] Memuat Leaderboard Lokal (SQLite)");
+            }
+        });
     }
 
     /**
@@ -127,48 +157,40 @@ public class Main {
      */
     public static void startGame(String username) {
         String diff = currentSettings.getDifficulty();
-        int initialBullets = SQLiteManager.getLastBulletCount(username, diff);
+        int initialBullets = ScoreQueue.getLastBulletCount(username, diff);
         
         Player player = new Player(username, initialBullets); 
         final GamePanel[] gamePanelRef = new GamePanel[1];
+        final GamePresenter[] presenterRef = new GamePresenter[1];
 
-        ActionListener quitAction = e -> showMenu();
+        // Leaving the session must also stop its simulation thread
+        ActionListener quitAction = e -> {
+            presenterRef[0].stopGame();
+            showMenu();
+        };
         ActionListener settingsAction = e -> showSettings(true, () -> {
             window.setView(gamePanelRef[0]);
             gamePanelRef[0].requestFocusInWindow();
         });
-        ActionListener restartAction = e -> startGame(username);
+        ActionListener restartAction = e -> {
+            presenterRef[0].stopGame();
+            startGame(username);
+        };
 
         gamePanelRef[0] = new GamePanel(quitAction, settingsAction, restartAction);
         
-        Runnable onGameOver = () -> {
-            // Persist scores to local SQLite database
-            SQLiteManager.saveScore(
-                player.getUsername(),
-                player.getScore(),
-                player.getYetiKilled(),
-                player.getMissedShots(),
-                player.getRemainingBullets(),
-                currentSettings.getDifficulty(),
-                currentSettings.getMode()
-            );
-
-            // Synchronize scores with global MySQL server in a background thread if online mode is active
-            if (currentSettings.getMode().equals(GameSettings.ONLINE)) {
-                new Thread(() -> {
-                    MySQLManager.saveScoreOnline(
-                        player.getUsername(),
-                        player.getScore(),
-                        player.getYetiKilled(),
-                        player.getMissedShots(),
-                        player.getRemainingBullets(),
-                        currentSettings.getDifficulty()
-                    );
-                }).start();
-            }
-        };
+        // Hand the results to the write-behind queue; disk and network work happens off this thread
+        Runnable onGameOver = () -> ScoreQueue.submit(ScoreRecord.of(player, currentSettings));
 
         GamePresenter presenter = new GamePresenter(player, gamePanelRef[0], currentSettings, onGameOver);
+        presenterRef[0] = presenter;
+
+        // -Dlastpenguin.recordDir=<dir> saves every session's input for ReplayRunner
+        String recordDir = System.getProperty("lastpenguin.recordDir");
+        if (recordDir != null) {
+            String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+            presenter.startRecording(Paths.get(recordDir, "session-" + stamp + ".lprp"));
+        }
         gamePanelRef[0].setPresenter(presenter);
         
         window.setView(gamePanelRef[0]);
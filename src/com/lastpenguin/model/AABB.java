@@ -0,0 +1,19 @@
+package com.lastpenguin.model;
+
+/**
+ * Primitive axis-aligned bounding box helpers for collision detection.
+ * Boxes are described by their min corner (inclusive) and max corner (exclusive),
+ * matching {@link java.awt.Rectangle#intersects}, so overlap tests never allocate.
+ */
+public final class AABB {
+
+    private AABB() {}
+
+    /**
+     * Tests whether two boxes share any interior area. Touching edges do not count.
+     */
+    public static boolean overlaps(int aMinX, int aMinY, int aMaxX, int aMaxY,
+                                   int bMinX, int bMinY, int bMaxX, int bMaxY) {
+        return aMinX < bMaxX && bMinX < aMaxX && aMinY < bMaxY && bMinY < aMaxY;
+    }
+}
@@ -0,0 +1,399 @@
+package com.lastpenguin.model;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small bounded JDBC connection pool.
+ * <p>
+ * Callers receive a proxy {@link Connection} whose {@code close()} hands the physical
+ * connection back to the pool instead of closing it, so the usual try-with-resources
+ * code keeps working unchanged. Connections that sat idle for a while are checked with
+ * {@link Connection#isValid(int)} before being handed out, connections idle for longer
+ * than the idle timeout are evicted in the background down to the minimum idle count,
+ * and connections that reported a connection-level error are discarded on return.
+ * Statements and result sets are proxied as well, so errors raised while executing
+ * a query or reading its rows count against their connection too.
+ */
+public class ConnectionPool {
+    // Connections reused within this window skip the validation round trip
+    private static final long VALIDATION_INTERVAL_MS = 5_000;
+    private static final long MAINTENANCE_PERIOD_MS = 30_000;
+
+    private final String url;
+    private final Properties info;
+    private final int minIdle;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final int validationTimeoutSec;
+    private final long borrowTimeoutMs;
+
+    // Idle connections, most recently returned first
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private int total = 0;
+    private boolean closed = false;
+    // The pool only keeps warm connections once the server has been reached at least once
+    private boolean warm = false;
+
+    private final ScheduledExecutorService maintenance;
+
+    // --- Metrics ---
+    private long created, borrowed, waited, validationFailures, evicted, discarded;
+    private long waitNanos;
+
+    /**
+     * A physical connection together with its bookkeeping.
+     */
+    private static final class PooledConnection {
+        final Connection physical;
+        long lastUsed = System.currentTimeMillis();
+        // Set by whichever thread saw the error, possibly after the connection was returned
+        volatile boolean broken = false;
+
+        PooledConnection(Connection physical) { this.physical = physical; }
+    }
+
+    /**
+     * Creates an empty pool; connections are opened on demand.
+     * @param info Driver properties such as user, password and timeouts.
+     * @param idleTimeoutMs How long a surplus connection may stay idle before it is closed.
+     * @param borrowTimeoutMs How long a caller waits for a free connection when the pool is at its maximum.
+     */
+    public ConnectionPool(String url, Properties info, int minIdle, int maxSize, long idleTimeoutMs,
+            int validationTimeoutSec, long borrowTimeoutMs) {
+        this.url = url;
+        this.info = info;
+        this.maxSize = Math.max(1, maxSize);
+        this.minIdle = Math.max(0, Math.min(minIdle, this.maxSize));
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validationTimeoutSec = validationTimeoutSec;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-maintenance");
+            t.setDaemon(true);
+            return t;
+        });
+        maintenance.scheduleWithFixedDelay(this::maintain, MAINTENANCE_PERIOD_MS, MAINTENANCE_PERIOD_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection, reusing an idle one when possible.
+     * Closing the returned connection gives it back to the pool.
+     * @throws SQLException if no connection could be opened or none became free in time.
+     */
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMs);
+        boolean hadToWait = false;
+
+        while (true) {
+            PooledConnection pc = null;
+            boolean mayCreate = false;
+
+            synchronized (this) {
+                if (closed) throw new SQLException("Connection pool is closed");
+                pc = idle.pollFirst();
+                if (pc == null) {
+                    if (total < maxSize) {
+                        total++;
+                        mayCreate = true;
+                    } else {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            throw new SQLException("Timed out waiting for a database connection");
+                        }
+                        hadToWait = true;
+                        try {
+                            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new SQLException("Interrupted while waiting for a database connection", e);
+                        }
+                        continue;
+                    }
+                }
+            }
+
+            // Network work happens outside the lock
+            if (mayCreate) {
+                try {
+                    pc = new PooledConnection(DriverManager.getConnection(url, info));
+                } catch (SQLException e) {
+                    release();
+                    throw e;
+                }
+                synchronized (this) {
+                    created++;
+                    warm = true;
+                }
+            } else if (!validate(pc)) {
+                closeQuietly(pc);
+                release();
+                synchronized (this) { validationFailures++; }
+                continue;
+            }
+
+            synchronized (this) {
+                borrowed++;
+                if (hadToWait) {
+                    waited++;
+                    waitNanos += System.nanoTime() - start;
+                }
+            }
+            return wrap(pc);
+        }
+    }
+
+    /**
+     * Closes all idle connections and rejects further borrows.
+     * Connections still in use are closed when they are returned.
+     */
+    public void close() {
+        maintenance.shutdownNow();
+        synchronized (this) {
+            closed = true;
+            for (PooledConnection pc : idle) closeQuietly(pc);
+            total -= idle.size();
+            idle.clear();
+            notifyAll();
+        }
+    }
+
+    // --- Metrics ---
+
+    public synchronized int getActiveCount() { return total - idle.size(); }
+    public synchronized int getIdleCount() { return idle.size(); }
+
+    /**
+     * Summarizes pool usage, e.g. for logging when diagnosing online latency.
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("active=%d idle=%d created=%d borrowed=%d waited=%d avgWaitMs=%.2f "
+                + "validationFailures=%d evicted=%d discarded=%d",
+                total - idle.size(), idle.size(), created, borrowed, waited,
+                waited == 0 ? 0.0 : waitNanos / 1e6 / waited, validationFailures, evicted, discarded);
+    }
+
+    // --- Internals ---
+
+    private boolean validate(PooledConnection pc) {
+        if (pc.broken) return false;
+        if (System.currentTimeMillis() - pc.lastUsed < VALIDATION_INTERVAL_MS) return true;
+        try {
+            return pc.physical.isValid(validationTimeoutSec);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Takes a connection back from a caller.
+     */
+    private void giveBack(PooledConnection pc) {
+        if (!pc.broken) {
+            try {
+                // Leave no open transaction behind for the next borrower
+                if (!pc.physical.getAutoCommit()) {
+                    pc.physical.rollback();
+                    pc.physical.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                pc.broken = true;
+            }
+        }
+
+        synchronized (this) {
+            if (!closed && !pc.broken) {
+                pc.lastUsed = System.currentTimeMillis();
+                idle.addFirst(pc);
+                notifyAll();
+                return;
+            }
+            if (pc.broken) discarded++;
+        }
+        closeQuietly(pc);
+        release();
+    }
+
+    /**
+     * Frees a slot after a physical connection was closed or failed to open.
+     */
+    private synchronized void release() {
+        total--;
+        notifyAll();
+    }
+
+    /**
+     * Evicts connections idle past the timeout and tops the pool up to the minimum idle count.
+     */
+    private void maintain() {
+        Deque<PooledConnection> expired = new ArrayDeque<>();
+        int missing;
+        synchronized (this) {
+            if (closed) return;
+            long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+            // Oldest connections sit at the end of the deque
+            Iterator<PooledConnection> it = idle.descendingIterator();
+            while (it.hasNext() && idle.size() > minIdle) {
+                PooledConnection pc = it.next();
+                if (pc.lastUsed >= cutoff) break;
+                it.remove();
+                expired.add(pc);
+            }
+            total -= expired.size();
+            evicted += expired.size();
+            missing = warm ? Math.min(minIdle - idle.size(), maxSize - total) : 0;
+            if (missing > 0) total += missing;
+        }
+        for (PooledConnection pc : expired) closeQuietly(pc);
+
+        for (int i = 0; i < missing; i++) {
+            try {
+                PooledConnection pc = new PooledConnection(DriverManager.getConnection(url, info));
+                synchronized (this) {
+                    created++;
+                    idle.addLast(pc);
+                    notifyAll();
+                }
+            } catch (SQLException e) {
+                // Server unreachable; give the slots back and try again next round
+                for (int j = i; j < missing; j++) release();
+                break;
+            }
+        }
+    }
+
+    private Connection wrap(PooledConnection pc) {
+        return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new Handle(pc));
+    }
+
+    /**
+     * Marks the connection broken if the error is connection-level (SQLState class 08).
+     */
+    private static void noteFailure(PooledConnection pc, Throwable cause) {
+        if (cause instanceof SQLException) {
+            String state = ((SQLException) cause).getSQLState();
+            if (state != null && state.startsWith("08")) pc.broken = true;
+        }
+    }
+
+    /**
+     * Wraps statements and result sets returned by a JDBC call so their errors are seen
+     * by the pool; every other value is returned as is.
+     * @param owner The connection proxy handed to the caller.
+     */
+    private static Object track(Object result, Class<?> type, PooledConnection pc, Connection owner) {
+        if (result == null) return null;
+        if (type == Statement.class || type == PreparedStatement.class || type == CallableStatement.class
+                || type == ResultSet.class) {
+            return Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(), new Class<?>[] { type },
+                    new Tracked(result, pc, owner));
+        }
+        return result;
+    }
+
+    private static void closeQuietly(PooledConnection pc) {
+        try {
+            pc.physical.close();
+        } catch (SQLException ignored) {
+            // Already unusable
+        }
+    }
+
+    /**
+     * Invocation handler behind the connection proxies handed to callers.
+     */
+    private final class Handle implements InvocationHandler {
+        private PooledConnection pc;
+
+        Handle(PooledConnection pc) { this.pc = pc; }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (pc != null) {
+                        PooledConnection returned = pc;
+                        pc = null;
+                        giveBack(returned);
+                    }
+                    return null;
+                case "isClosed":
+                    return pc == null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + (pc == null ? "closed" : pc.physical) + "]";
+                default:
+                    break;
+            }
+            if (pc == null) throw new SQLException("Connection has already been returned to the pool");
+
+            try {
+                return track(method.invoke(pc.physical, args), method.getReturnType(), pc, (Connection) proxy);
+            } catch (InvocationTargetException e) {
+                noteFailure(pc, e.getCause());
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Invocation handler behind the statement and result set proxies.
+     */
+    private static final class Tracked implements InvocationHandler {
+        private final Object target;
+        private final PooledConnection pc;
+        private final Connection owner;
+
+        Tracked(Object target, PooledConnection pc, Connection owner) {
+            this.target = target;
+            this.pc = pc;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getConnection":
+                    // Never leak the physical connection past the pool
+                    if (args == null) return owner;
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return track(method.invoke(target, args), method.getReturnType(), pc, owner);
+            } catch (InvocationTargetException e) {
+                noteFailure(pc, e.getCause());
+                throw e.getCause();
+            }
+        }
+    }
+}
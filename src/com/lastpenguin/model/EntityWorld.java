@@ -0,0 +1,475 @@
+package com.lastpenguin.model;
+
+import java.util.Arrays;
+
+/**
+ * Entity-component store for every moving actor in the arena: Yetis, snowballs and meteors.
+ * <p>
+ * Each entity is one row of a set of parallel primitive arrays, one array per component
+ * field, and a bit mask records which components the row uses. Systems walk the rows
+ * from 0 to {@link #size()} - 1 and act on those whose mask matches, so every pass is a
+ * linear scan over dense memory. A new kind of entity is a new archetype method that
+ * picks its components; the presenter needs no new list or loop for it.
+ * <p>
+ * Destroying an entity only marks its row. {@link #sweep()} later removes every marked
+ * row in one order-preserving pass, so row indices stay valid while a phase iterates.
+ * Rows shift when the store is compacted, so code that keeps a reference across ticks
+ * stores the entity's id instead: a slot number plus a generation counter that changes
+ * whenever the slot is reused, which turns a stale id into a miss instead of a
+ * different entity.
+ */
+public class EntityWorld {
+
+    // --- Components ---
+
+    public static final int POSITION = 1;
+    public static final int VELOCITY = 1 << 1;
+    /** Axis-aligned box anchored at the position. */
+    public static final int COLLIDER = 1 << 2;
+    public static final int HEALTH = 1 << 3;
+    /** Ticks left before the entity expires. */
+    public static final int LIFETIME = 1 << 4;
+    /** Frame index into the kind's sprite set, plus a walk-cycle counter. */
+    public static final int SPRITE = 1 << 5;
+    public static final int OWNER = 1 << 6;
+    /** Point the entity is heading for, with its top speed in pixels per tick. */
+    public static final int TARGET = 1 << 7;
+
+    // --- Kinds ---
+
+    public static final byte YETI = 0;
+    public static final byte PROJECTILE = 1;
+    public static final byte METEOR = 2;
+    public static final int KIND_COUNT = 3;
+
+    public static final byte OWNER_PLAYER = 0;
+    public static final byte OWNER_YETI = 1;
+
+    // --- Flags ---
+
+    /** Giant Snowballs pass through enemies and obstacles. */
+    public static final byte PIERCING = 1;
+    /** The projectile has struck at least one Yeti. */
+    public static final byte HIT = 2;
+    /** The projectile is used up and is removed on the next cleanup pass. */
+    public static final byte SPENT = 4;
+    private static final byte DEAD = 8;
+
+    // --- Yeti archetype ---
+
+    /** Edge length of a Yeti's square collision box. */
+    public static final int YETI_SIZE = 60;
+    public static final int FRONT = 0;
+    public static final int LEFT = 1;
+    public static final int RIGHT = 2;
+    public static final int BACK = 3;
+    private static final int YETI_HEALTH = 50;
+    private static final int WALK_FRAMES = 3;
+    private static final int WALK_FRAME_TICKS = 12;
+
+    // --- Projectile and meteor archetypes ---
+
+    public static final int SPRITE_BALL_PLAYER = 0;
+    public static final int SPRITE_BALL_YETI = 1;
+    public static final int SPRITE_BALL_GIANT = 2;
+    private static final int METEOR_START_Y = -100;
+    private static final int METEOR_FALL_SPEED = 20;
+
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+    // Component columns, indexed by row
+    private int[] mask;
+    private byte[] kind, flags, owner, animCounter;
+    private float[] x, y, prevX, prevY, vx, vy;
+    private int[] width, height, health, lifetime, sprite, targetX, targetY, speed;
+    private int[] rowSlot;
+    private int count = 0;
+
+    // Id bookkeeping, indexed by slot
+    private int[] slotRow, slotGeneration, freeSlots;
+    private int slotCount = 0, freeCount = 0;
+
+    private final int[] kindCounts = new int[KIND_COUNT];
+    private int[] expired = new int[64];
+    private int expiredCount = 0;
+
+    public EntityWorld() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EntityWorld(int capacity) {
+        allocateRows(Math.max(1, capacity));
+        slotRow = new int[Math.max(1, capacity)];
+        slotGeneration = new int[slotRow.length];
+        freeSlots = new int[slotRow.length];
+    }
+
+    // --- Archetypes ---
+
+    /**
+     * Spawns a Yeti facing the camera at the given top-left position.
+     * @param speed Top speed in pixels per tick.
+     * @return The new entity's row.
+     */
+    public int spawnYeti(int startX, int startY, int speed) {
+        int row = create(YETI, POSITION | COLLIDER | HEALTH | SPRITE | TARGET, startX, startY);
+        width[row] = height[row] = YETI_SIZE;
+        health[row] = YETI_HEALTH;
+        sprite[row] = FRONT * WALK_FRAMES + 1;
+        targetX[row] = startX;
+        targetY[row] = startY;
+        this.speed[row] = Math.max(1, speed);
+        return row;
+    }
+
+    /**
+     * Launches a snowball toward the given direction at a constant speed.
+     * The direction vector is normalized so the speed is the same at any angle.
+     * @return The new entity's row.
+     */
+    public int spawnProjectile(double startX, double startY, double targetDx, double targetDy, int speed,
+                               byte projectileOwner, boolean piercing) {
+        int row = create(PROJECTILE, POSITION | VELOCITY | COLLIDER | SPRITE | OWNER, (float) startX, (float) startY);
+        double distance = Math.sqrt(targetDx * targetDx + targetDy * targetDy);
+        if (distance > 0) {
+            vx[row] = (float) (targetDx / distance * speed);
+            vy[row] = (float) (targetDy / distance * speed);
+        }
+        // Giant Snowballs use a larger hitbox
+        width[row] = height[row] = piercing ? 40 : 12;
+        owner[row] = projectileOwner;
+        if (piercing) flags[row] = PIERCING;
+        sprite[row] = piercing ? SPRITE_BALL_GIANT : projectileOwner == OWNER_YETI ? SPRITE_BALL_YETI : SPRITE_BALL_PLAYER;
+        return row;
+    }
+
+    /**
+     * Drops a meteor from above the arena onto the given point. Its lifetime runs out on
+     * the tick it reaches the target, which is kept as the impact point.
+     * @return The new entity's row.
+     */
+    public int spawnMeteor(int impactX, int impactY) {
+        int row = create(METEOR, POSITION | VELOCITY | LIFETIME | SPRITE | TARGET, impactX - 40, METEOR_START_Y);
+        vy[row] = METEOR_FALL_SPEED;
+        targetX[row] = impactX;
+        targetY[row] = impactY;
+        lifetime[row] = Math.max(1, (impactY - METEOR_START_Y + METEOR_FALL_SPEED - 1) / METEOR_FALL_SPEED);
+        return row;
+    }
+
+    /**
+     * Appends a row with every component field reset.
+     */
+    private int create(byte entityKind, int components, float startX, float startY) {
+        if (count == x.length) growRows();
+        int row = count++;
+        mask[row] = components;
+        kind[row] = entityKind;
+        flags[row] = 0;
+        owner[row] = 0;
+        animCounter[row] = 0;
+        x[row] = prevX[row] = startX;
+        y[row] = prevY[row] = startY;
+        vx[row] = vy[row] = 0;
+        width[row] = height[row] = 0;
+        health[row] = lifetime[row] = sprite[row] = 0;
+        targetX[row] = targetY[row] = speed[row] = 0;
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == slotRow.length) growSlots();
+            slot = slotCount++;
+        }
+        slotRow[slot] = row;
+        rowSlot[row] = slot;
+        kindCounts[entityKind]++;
+        return row;
+    }
+
+    // --- Systems ---
+
+    /**
+     * Records current positions as the start points for render interpolation.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    /**
+     * Movement system: advances every entity with a velocity by one tick.
+     */
+    public void move() {
+        for (int row = 0; row < count; row++) {
+            if ((mask[row] & VELOCITY) == 0) continue;
+            x[row] += vx[row];
+            y[row] += vy[row];
+        }
+    }
+
+    /**
+     * Lifetime system: counts down every entity with a lifetime and destroys those that
+     * run out. Their rows stay readable through {@link #getExpired(int)} until the next
+     * {@link #sweep()}, so the caller can react to them, e.g. with a meteor impact.
+     * @return The number of entities that expired this tick.
+     */
+    public int updateLifetimes() {
+        expiredCount = 0;
+        for (int row = 0; row < count; row++) {
+            if ((mask[row] & LIFETIME) == 0 || (flags[row] & DEAD) != 0) continue;
+            if (--lifetime[row] <= 0) {
+                destroy(row);
+                if (expiredCount == expired.length) expired = Arrays.copyOf(expired, expiredCount * 2);
+                expired[expiredCount++] = row;
+            }
+        }
+        return expiredCount;
+    }
+
+    /**
+     * Returns the row of the i-th entity that expired in the last {@link #updateLifetimes()}.
+     */
+    public int getExpired(int i) { return expired[i]; }
+
+    /**
+     * Turns a walking entity toward its target and advances its walk cycle by one tick.
+     */
+    public void animateWalk(int row) {
+        int dx = targetX[row] - (int) x[row], dy = targetY[row] - (int) y[row];
+        int direction = Math.abs(dx) > Math.abs(dy) ? (dx > 0 ? RIGHT : LEFT) : (dy > 0 ? FRONT : BACK);
+        int step = sprite[row] % WALK_FRAMES;
+        if (++animCounter[row] > WALK_FRAME_TICKS) {
+            step = (step + 1) % WALK_FRAMES;
+            animCounter[row] = 0;
+        }
+        sprite[row] = direction * WALK_FRAMES + step;
+    }
+
+    /**
+     * Subtracts health and destroys the entity once it reaches zero.
+     * @return True if this damage destroyed it.
+     */
+    public boolean damage(int row, int amount) {
+        if ((flags[row] & DEAD) != 0) return false;
+        health[row] -= amount;
+        if (health[row] > 0) return false;
+        destroy(row);
+        return true;
+    }
+
+    /**
+     * Marks an entity as destroyed. It stops matching {@link #isAlive(int, byte)} at once
+     * and its row is reclaimed by the next {@link #sweep()}.
+     */
+    public void destroy(int row) {
+        if ((flags[row] & DEAD) != 0) return;
+        flags[row] |= DEAD;
+        kindCounts[kind[row]]--;
+    }
+
+    /**
+     * Removes every destroyed row in a single pass, keeping the survivors in their
+     * original order. Invalidates previously returned row indices, but not entity ids.
+     */
+    public void sweep() {
+        int kept = 0;
+        for (int row = 0; row < count; row++) {
+            int slot = rowSlot[row];
+            if ((flags[row] & DEAD) != 0) {
+                slotGeneration[slot] = (slotGeneration[slot] + 1) & GENERATION_MASK;
+                slotRow[slot] = -1;
+                freeSlots[freeCount++] = slot;
+                continue;
+            }
+            if (kept != row) copyRow(row, kept);
+            slotRow[slot] = kept;
+            kept++;
+        }
+        count = kept;
+    }
+
+    private void copyRow(int from, int to) {
+        mask[to] = mask[from];
+        kind[to] = kind[from];
+        flags[to] = flags[from];
+        owner[to] = owner[from];
+        animCounter[to] = animCounter[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        prevX[to] = prevX[from];
+        prevY[to] = prevY[from];
+        vx[to] = vx[from];
+        vy[to] = vy[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        health[to] = health[from];
+        lifetime[to] = lifetime[from];
+        sprite[to] = sprite[from];
+        targetX[to] = targetX[from];
+        targetY[to] = targetY[from];
+        speed[to] = speed[from];
+        rowSlot[to] = rowSlot[from];
+    }
+
+    public void clear() {
+        count = 0;
+        slotCount = 0;
+        freeCount = 0;
+        Arrays.fill(kindCounts, 0);
+    }
+
+    // --- Ids ---
+
+    /**
+     * Returns a stable id for the entity in the given row.
+     */
+    public int idOf(int row) {
+        int slot = rowSlot[row];
+        return (slotGeneration[slot] << SLOT_BITS) | slot;
+    }
+
+    /**
+     * Resolves an id to the entity's current row.
+     * @return The row, or -1 if the entity has been destroyed.
+     */
+    public int rowOf(int id) {
+        int slot = id & SLOT_MASK;
+        if (slot >= slotCount || slotGeneration[slot] != id >>> SLOT_BITS) return -1;
+        int row = slotRow[slot];
+        return row < 0 || (flags[row] & DEAD) != 0 ? -1 : row;
+    }
+
+    // --- Storage ---
+
+    private void allocateRows(int capacity) {
+        mask = new int[capacity];
+        kind = new byte[capacity];
+        flags = new byte[capacity];
+        owner = new byte[capacity];
+        animCounter = new byte[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        width = new int[capacity];
+        height = new int[capacity];
+        health = new int[capacity];
+        lifetime = new int[capacity];
+        sprite = new int[capacity];
+        targetX = new int[capacity];
+        targetY = new int[capacity];
+        speed = new int[capacity];
+        rowSlot = new int[capacity];
+    }
+
+    private void growRows() {
+        int capacity = x.length * 2;
+        mask = Arrays.copyOf(mask, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        animCounter = Arrays.copyOf(animCounter, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        health = Arrays.copyOf(health, capacity);
+        lifetime = Arrays.copyOf(lifetime, capacity);
+        sprite = Arrays.copyOf(sprite, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        rowSlot = Arrays.copyOf(rowSlot, capacity);
+    }
+
+    private void growSlots() {
+        int capacity = slotRow.length * 2;
+        slotRow = Arrays.copyOf(slotRow, capacity);
+        slotGeneration = Arrays.copyOf(slotGeneration, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    // --- Queries ---
+
+    /** Number of rows, including destroyed ones not yet swept. */
+    public int size() { return count; }
+
+    /** Number of live entities of a kind. */
+    public int count(byte entityKind) { return kindCounts[entityKind]; }
+
+    /**
+     * Checks that the row holds a live entity of the given kind.
+     */
+    public boolean isAlive(int row, byte entityKind) {
+        return kind[row] == entityKind && (flags[row] & DEAD) == 0;
+    }
+
+    public boolean isAlive(int row) { return (flags[row] & DEAD) == 0; }
+
+    /**
+     * Returns the row of the oldest live entity of a kind, or -1 if there is none.
+     */
+    public int first(byte entityKind) {
+        for (int row = 0; row < count; row++) {
+            if (isAlive(row, entityKind)) return row;
+        }
+        return -1;
+    }
+
+    public boolean has(int row, int components) { return (mask[row] & components) == components; }
+
+    // --- Indexed Accessors ---
+
+    public byte getKind(int row) { return kind[row]; }
+    public int getX(int row) { return (int) x[row]; }
+    public int getY(int row) { return (int) y[row]; }
+    public int getPrevX(int row) { return (int) prevX[row]; }
+    public int getPrevY(int row) { return (int) prevY[row]; }
+    public void setPosition(int row, int newX, int newY) {
+        x[row] = newX;
+        y[row] = newY;
+    }
+
+    public int getSprite(int row) { return sprite[row]; }
+    public byte getOwner(int row) { return owner[row]; }
+    public int getHealth(int row) { return health[row]; }
+    public int getSpeed(int row) { return speed[row]; }
+    public int getTargetX(int row) { return targetX[row]; }
+    public int getTargetY(int row) { return targetY[row]; }
+    public void setTarget(int row, int newX, int newY) {
+        targetX[row] = newX;
+        targetY[row] = newY;
+    }
+
+    public boolean isPiercing(int row) { return (flags[row] & PIERCING) != 0; }
+    public boolean isHit(int row) { return (flags[row] & HIT) != 0; }
+    public boolean isSpent(int row) { return (flags[row] & SPENT) != 0; }
+    public void markHit(int row) { flags[row] |= HIT; }
+    public void markSpent(int row) { flags[row] |= SPENT; }
+
+    // --- Collision Box (max corner exclusive) ---
+
+    public int getMinX(int row) { return (int) x[row]; }
+    public int getMinY(int row) { return (int) y[row]; }
+    public int getMaxX(int row) { return (int) x[row] + width[row]; }
+    public int getMaxY(int row) { return (int) y[row] + height[row]; }
+
+    /**
+     * Tests the entity's collider against another box without allocating.
+     */
+    public boolean overlaps(int row, int minX, int minY, int maxX, int maxY) {
+        int ex = (int) x[row], ey = (int) y[row];
+        return AABB.overlaps(ex, ey, ex + width[row], ey + height[row], minX, minY, maxX, maxY);
+    }
+}
@@ -10,6 +10,8 @@ public class GameSettings {
     public static final String EASY = "EASY";
     public static final String MEDIUM = "MEDIUM";
     public static final String HARD = "HARD";
+    /** Escalating waves that grow the horde into the thousands. */
+    public static final String ENDLESS = "ENDLESS";
 
     public static final String OFFLINE = "OFFLINE";
     public static final String ONLINE = "ONLINE";
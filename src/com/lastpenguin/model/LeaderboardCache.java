@@ -0,0 +1,135 @@
+package com.lastpenguin.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stale-while-revalidate cache of leaderboard rows keyed by (mode, difficulty).
+ * <p>
+ * {@link #get(String, String)} always answers immediately with whatever rows are cached
+ * (possibly none yet). When the entry is missing, older than the TTL or invalidated, a
+ * reload is started in the background and the fresh rows are delivered to the
+ * registered {@link Listener}. Local and online leaderboards load on separate threads
+ * so a slow MySQL server never delays the local board.
+ */
+public final class LeaderboardCache {
+
+    /**
+     * Receives freshly loaded rows. Called on a background thread.
+     */
+    public interface Listener {
+        void onLeaderboardUpdated(String mode, String difficulty, List<Object[]> rows);
+    }
+
+    private static final long TTL_MS = 30_000;
+
+    private static final String[] DIFFICULTIES = { GameSettings.EASY, GameSettings.MEDIUM, GameSettings.HARD, GameSettings.ENDLESS };
+
+    private static final ExecutorService localLoader = newLoader("leaderboard-local");
+    private static final ExecutorService onlineLoader = newLoader("leaderboard-online");
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private static volatile Listener listener;
+
+    /**
+     * Cached rows for one key.
+     */
+    private static final class Entry {
+        volatile List<Object[]> rows = Collections.emptyList();
+        // 0 means never loaded or invalidated
+        volatile long loadedAt = 0;
+        final AtomicBoolean loading = new AtomicBoolean();
+        // Bumped by every invalidation so a load that raced with one is not trusted
+        final AtomicInteger version = new AtomicInteger();
+    }
+
+    private LeaderboardCache() {}
+
+    /**
+     * Registers the receiver of background refreshes, replacing any previous one.
+     */
+    public static void setListener(Listener l) { listener = l; }
+
+    /**
+     * Returns the cached rows for the given key, scheduling a refresh if they are stale.
+     */
+    public static List<Object[]> get(String mode, String difficulty) {
+        Entry entry = entry(mode, difficulty);
+        if (System.currentTimeMillis() - entry.loadedAt > TTL_MS) refresh(mode, difficulty, entry);
+        return entry.rows;
+    }
+
+    /**
+     * Marks a key as outdated, e.g. after a new score was saved, and reloads it.
+     */
+    public static void invalidate(String mode, String difficulty) {
+        Entry entry = entry(mode, difficulty);
+        entry.version.incrementAndGet();
+        entry.loadedAt = 0;
+        refresh(mode, difficulty, entry);
+    }
+
+    /**
+     * Loads every difficulty of one mode in the background.
+     */
+    public static void prefetch(String mode) {
+        for (String difficulty : DIFFICULTIES) get(mode, difficulty);
+    }
+
+    /**
+     * Prefetches the online boards only once the MySQL server has answered. The check runs
+     * on the online loader thread, so an unreachable server holds up nothing but online loads.
+     */
+    public static void prefetchOnlineIfReachable() {
+        onlineLoader.execute(() -> {
+            if (MySQLManager.isServerAvailable()) prefetch(GameSettings.ONLINE);
+        });
+    }
+
+    private static void refresh(String mode, String difficulty, Entry entry) {
+        // At most one load per key in flight; an invalidation during a load triggers another one afterwards
+        if (!entry.loading.compareAndSet(false, true)) return;
+
+        ExecutorService loader = GameSettings.ONLINE.equals(mode) ? onlineLoader : localLoader;
+        loader.execute(() -> {
+            long startedAt = System.currentTimeMillis();
+            int version = entry.version.get();
+            try {
+                List<Object[]> rows = GameSettings.ONLINE.equals(mode)
+                        ? MySQLManager.getGlobalLeaderboard(difficulty)
+                        : SQLiteManager.getLeaderboardData(difficulty);
+                // The managers report failures as an empty list; keep serving the last good rows then
+                if (!rows.isEmpty() || entry.rows.isEmpty()) entry.rows = Collections.unmodifiableList(rows);
+                entry.loadedAt = startedAt;
+
+                Listener l = listener;
+                if (l != null) l.onLeaderboardUpdated(mode, difficulty, entry.rows);
+            } finally {
+                entry.loading.set(false);
+            }
+            // An invalidation arrived while loading; the rows may predate it
+            if (entry.version.get() != version) {
+                entry.loadedAt = 0;
+                refresh(mode, difficulty, entry);
+            }
+        });
+    }
+
+    private static Entry entry(String mode, String difficulty) {
+        return entries.computeIfAbsent(mode + '/' + difficulty, k -> new Entry());
+    }
+
+    private static ExecutorService newLoader(String name) {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
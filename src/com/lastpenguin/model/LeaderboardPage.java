@@ -0,0 +1,39 @@
+package com.lastpenguin.model;
+
+import java.util.List;
+
+/**
+ * One page of the global leaderboard together with the keyset cursor needed to
+ * request the page that follows it.
+ * Rows use the same layout as the menu table: username, high score, missed shots
+ * and remaining bullets.
+ */
+public class LeaderboardPage {
+    /** Cursor score that requests the first page. */
+    public static final int FIRST_SCORE = Integer.MAX_VALUE;
+    /** Cursor player id that requests the first page. */
+    public static final int FIRST_PLAYER_ID = 0;
+
+    private final List<Object[]> rows;
+    private final int lastScore;
+    private final int lastPlayerId;
+    private final boolean hasMore;
+
+    public LeaderboardPage(List<Object[]> rows, int lastScore, int lastPlayerId, boolean hasMore) {
+        this.rows = rows;
+        this.lastScore = lastScore;
+        this.lastPlayerId = lastPlayerId;
+        this.hasMore = hasMore;
+    }
+
+    public List<Object[]> getRows() { return rows; }
+
+    /** Score of the last row, to pass as {@code afterScore} for the next page. */
+    public int getLastScore() { return lastScore; }
+
+    /** Player id of the last row, to pass as {@code afterPlayerId} for the next page. */
+    public int getLastPlayerId() { return lastPlayerId; }
+
+    /** Whether at least one more row exists beyond this page. */
+    public boolean hasMore() { return hasMore; }
+}
@@ -17,9 +17,15 @@ public class MySQLManager {
     private static String URL;
     private static String USER;
     private static String PASSWORD;
+    private static Properties config = new Properties();
+
+    // Shared pool so repeated online queries skip the TCP and authentication handshake
+    private static final ConnectionPool pool;
 
     static {
         loadConfig();
+        pool = createPool();
+        Runtime.getRuntime().addShutdownHook(new Thread(pool::close, "mysql-pool-shutdown"));
     }
 
     /**
@@ -37,6 +43,7 @@ public class MySQLManager {
                 URL = props.getProperty("db.url", "jdbc:mysql://localhost:3306/railway");
                 USER = props.getProperty("db.user", "root");
                 PASSWORD = props.getProperty("db.password", "");
+                config = props;
                 System.out.println("[CONFIG] Loaded from: " + path);
                 return;
             } catch (IOException e) {
@@ -50,6 +57,34 @@ public class MySQLManager {
         PASSWORD = "";
     }
 
+    /**
+     * Builds the connection pool from the optional {@code db.pool.*} and timeout
+     * settings in config.properties. Timeouts are in milliseconds.
+     */
+    private static ConnectionPool createPool() {
+        Properties info = new Properties();
+        info.setProperty("user", USER);
+        info.setProperty("password", PASSWORD);
+        info.setProperty("connectTimeout", config.getProperty("db.connectTimeout", "5000"));
+        info.setProperty("socketTimeout", config.getProperty("db.socketTimeout", "10000"));
+
+        return new ConnectionPool(URL, info,
+                intSetting("db.pool.minIdle", 1),
+                intSetting("db.pool.maxSize", 4),
+                intSetting("db.pool.idleTimeout", 300_000),
+                Math.max(1, intSetting("db.pool.validationTimeout", 2_000) / 1000),
+                intSetting("db.pool.borrowTimeout", 5_000));
+    }
+
+    private static int intSetting(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(config.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[CONFIG] Invalid value for " + key + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
     /**
      * Returns possible config file locations.
      */
@@ -72,10 +107,18 @@ public class MySQLManager {
     }
 
     /**
-     * Establishes a connection to the MySQL server.
+     * Borrows a pooled connection to the MySQL server.
+     * Closing the connection returns it to the pool.
      */
     public static Connection connect() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+        return pool.getConnection();
+    }
+
+    /**
+     * Returns a one-line summary of connection pool usage.
+     */
+    public static String getPoolMetrics() {
+        return pool.toString();
     }
 
     /**
@@ -138,17 +181,38 @@ public class MySQLManager {
         return data;
     }
 
+    /**
+     * Outcome of uploading one session to the server.
+     */
+    public enum UploadResult {
+        /** The score was written. */
+        SENT,
+        /** The server could not be reached or the failure may clear up; try again later. */
+        RETRY,
+        /** The server refused the row itself (schema, constraint or data error); retrying will not help. */
+        REJECTED
+    }
+
     /**
      * Persists the current game session results to the remote MySQL database.
      * Ensures the player is registered in the database before inserting session
      * records.
+     * @return Whether the score was written, should be retried, or was rejected for good.
      */
-    public static void saveScoreOnline(String username, int score, int killed, int missed, int bullets, String diff) {
+    public static UploadResult saveScoreOnline(String username, int score, int killed, int missed, int bullets, String diff) {
         String insertPlayerSql = "INSERT IGNORE INTO players (username) VALUES (?)";
         String selectPlayerSql = "SELECT id FROM players WHERE username = ?";
         String insertScoreSql = "INSERT INTO scores (player_id, score, missed_shots, remaining_bullets, yeti_killed, difficulty, mode) "
                 +
                 "VALUES (?, ?, ?, ?, ?, ?, 'ONLINE')";
+        // Keeps the per-player summary current; assignments run left to right, so
+        // missed_shots is compared against the score before it is raised
+        String upsertBestSql = "INSERT INTO leaderboard_best (player_id, difficulty, score, missed_shots, remaining_bullets) "
+                + "VALUES (?, ?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE "
+                + "missed_shots = IF(VALUES(score) >= score, VALUES(missed_shots), missed_shots), "
+                + "score = GREATEST(score, VALUES(score)), "
+                + "remaining_bullets = VALUES(remaining_bullets)";
 
         try (Connection conn = connect()) {
             // Ensure the player is registered in the system
@@ -166,8 +230,9 @@ public class MySQLManager {
                     playerId = rs.getInt("id");
             }
 
-            // Execute the score insertion if player identity is confirmed
+            // Execute the score insertion and summary update together if player identity is confirmed
             if (playerId != -1) {
+                conn.setAutoCommit(false);
                 try (PreparedStatement ps = conn.prepareStatement(insertScoreSql)) {
                     ps.setInt(1, playerId);
                     ps.setInt(2, score);
@@ -176,48 +241,87 @@ public class MySQLManager {
                     ps.setInt(5, killed);
                     ps.setString(6, diff);
                     ps.executeUpdate();
-                    System.out.println("[ONLINE] Score successfully uploaded to the server.");
                 }
+                try (PreparedStatement ps = conn.prepareStatement(upsertBestSql)) {
+                    ps.setInt(1, playerId);
+                    ps.setString(2, diff);
+                    ps.setInt(3, score);
+                    ps.setInt(4, missed);
+                    ps.setInt(5, bullets);
+                    ps.executeUpdate();
+                }
+                conn.commit();
+                System.out.println("[ONLINE] Score successfully uploaded to the server.");
+                return UploadResult.SENT;
             }
         } catch (SQLException e) {
             System.err.println("[ONLINE] Failed to save session score: " + e.getMessage());
+            return isTransient(e) ? UploadResult.RETRY : UploadResult.REJECTED;
         }
+        return UploadResult.RETRY;
     }
 
     /**
-     * Retrieves the Global Leaderboard entries.
-     * Aggregates data to display the highest historical score alongside the
-     * ammunition count from the player's most recent session using window
-     * functions.
+     * Tells connection and other passing failures apart from errors the server will
+     * raise for the same row every time. Connection errors use SQLState class 08; errors
+     * without a SQLState come from the client side (e.g. the pool) and are also retried.
+     */
+    static boolean isTransient(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException) return true;
+        String state = e.getSQLState();
+        return state == null || state.startsWith("08");
+    }
+
+    /**
+     * Retrieves the top 50 Global Leaderboard entries.
+     * Shows the highest historical score alongside the ammunition count from the
+     * player's most recent session, read from the leaderboard_best summary table.
      */
     public static List<Object[]> getGlobalLeaderboard(String difficulty) {
+        return getGlobalLeaderboardPage(difficulty, LeaderboardPage.FIRST_SCORE, LeaderboardPage.FIRST_PLAYER_ID, 50)
+                .getRows();
+    }
+
+    /**
+     * Retrieves one page of the Global Leaderboard using keyset pagination.
+     * Rows are ordered by score (highest first) and then by player id. Each page starts
+     * strictly after the given cursor, so every page costs one index range scan no
+     * matter how deep into the ranking it is.
+     * @param afterScore Score of the last row of the previous page, or {@link LeaderboardPage#FIRST_SCORE}.
+     * @param afterPlayerId Player id of the last row of the previous page, or {@link LeaderboardPage#FIRST_PLAYER_ID}.
+     */
+    public static LeaderboardPage getGlobalLeaderboardPage(String difficulty, int afterScore, int afterPlayerId,
+            int limit) {
         List<Object[]> data = new ArrayList<>();
+        int lastScore = afterScore, lastPlayerId = afterPlayerId;
+        boolean hasMore = false;
 
-        // Complex query utilizing ROW_NUMBER() to synchronize high-scores and latest
-        // session data
-        String sql = "SELECT p.username, hs.score, hs.missed_shots, ls.remaining_bullets " +
-                "FROM players p " +
-                "JOIN (" +
-                "    SELECT player_id, score, missed_shots, " +
-                "    ROW_NUMBER() OVER (PARTITION BY player_id ORDER BY score DESC, played_at DESC) as rn " +
-                "    FROM scores WHERE mode = 'ONLINE' AND difficulty = ?" +
-                ") hs ON p.id = hs.player_id AND hs.rn = 1 " +
-                "JOIN (" +
-                "    SELECT player_id, remaining_bullets, " +
-                "    ROW_NUMBER() OVER (PARTITION BY player_id ORDER BY played_at DESC) as rn " +
-                "    FROM scores WHERE mode = 'ONLINE' AND difficulty = ?" +
-                ") ls ON p.id = ls.player_id AND ls.rn = 1 " +
-                "ORDER BY hs.score DESC LIMIT 50";
+        // Served by idx_leaderboard_rank (difficulty, score DESC, player_id); one extra row detects a next page
+        String sql = "SELECT lb.player_id, p.username, lb.score, lb.missed_shots, lb.remaining_bullets " +
+                "FROM leaderboard_best lb " +
+                "JOIN players p ON p.id = lb.player_id " +
+                "WHERE lb.difficulty = ? " +
+                "  AND (lb.score < ? OR (lb.score = ? AND lb.player_id > ?)) " +
+                "ORDER BY lb.score DESC, lb.player_id ASC LIMIT ?";
 
         try (Connection conn = connect(); PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, difficulty);
-            ps.setString(2, difficulty);
+            ps.setInt(2, afterScore);
+            ps.setInt(3, afterScore);
+            ps.setInt(4, afterPlayerId);
+            ps.setInt(5, limit + 1);
             ResultSet rs = ps.executeQuery();
 
             while (rs.next()) {
+                if (data.size() == limit) {
+                    hasMore = true;
+                    break;
+                }
+                lastScore = rs.getInt("score");
+                lastPlayerId = rs.getInt("player_id");
                 data.add(new Object[] {
                         rs.getString("username"),
-                        rs.getInt("score"),
+                        lastScore,
                         rs.getInt("missed_shots"),
                         rs.getInt("remaining_bullets")
                 });
@@ -225,15 +329,17 @@ public class MySQLManager {
         } catch (SQLException e) {
             System.err.println("[ONLINE] Failed to retrieve global leaderboard: " + e.getMessage());
         }
-        return data;
+        return new LeaderboardPage(data, lastScore, lastPlayerId, hasMore);
     }
 
     /**
      * Validates if the remote database server is accessible.
+     * Borrowing from the pool already validates idle connections, so a warm pool
+     * answers without opening a new connection.
      */
     public static boolean isServerAvailable() {
         try (Connection conn = connect()) {
-            return conn != null && !conn.isClosed();
+            return conn != null;
         } catch (SQLException e) {
             return false;
         }
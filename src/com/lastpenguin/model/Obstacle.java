@@ -9,6 +9,7 @@ package com.lastpenguin.model;
 public class Obstacle {
     private int x, y;
     private int width, height;
+    private int maxX, maxY;
     private boolean isHole = false;
     private int duration = -1;
     
@@ -16,6 +17,8 @@ public class Obstacle {
     private int hp = -1; 
     private boolean destructible = false;
 
+    private ObstacleListener listener = ObstacleListener.NONE;
+
     /**
      * Standard constructor for permanent, indestructible obstacles.
      * @param x The horizontal position of the obstacle.
@@ -28,6 +31,8 @@ public class Obstacle {
         this.y = y; 
         this.width = width; 
         this.height = height;
+        this.maxX = x + width;
+        this.maxY = y + height;
     }
 
     /**
@@ -58,9 +63,17 @@ public class Obstacle {
     public void takeDamage() {
         if (destructible && hp > 0) {
             hp--;
+            listener.obstacleChanged(this);
         }
     }
 
+    /**
+     * Registers the listener told about HP changes of this obstacle.
+     */
+    public void setListener(ObstacleListener listener) {
+        this.listener = listener != null ? listener : ObstacleListener.NONE;
+    }
+
     /**
      * Updates the obstacle's state on each game tick.
      * Primarily manages the countdown for temporary hazard durations.
@@ -85,6 +98,14 @@ public class Obstacle {
         return destructible && hp <= 0;
     }
 
+    /**
+     * Tests the obstacle's area against another box without allocating.
+     * @return True if the boxes share any interior area (max corners are exclusive).
+     */
+    public boolean overlaps(int minX, int minY, int maxX, int maxY) {
+        return AABB.overlaps(x, y, this.maxX, this.maxY, minX, minY, maxX, maxY);
+    }
+
     // --- Getter Methods for Rendering and Collision Logic ---
 
     public boolean isHole() { return isHole; }
@@ -92,6 +113,10 @@ public class Obstacle {
     public int getY() { return y; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
+    public int getMinX() { return x; }
+    public int getMinY() { return y; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
     public int getHp() { return hp; }
     public boolean isDestructible() { return destructible; }
 }
\ No newline at end of file
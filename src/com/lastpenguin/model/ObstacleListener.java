@@ -0,0 +1,20 @@
+package com.lastpenguin.model;
+
+/**
+ * Receives a notification whenever the arena's obstacles change in a way that is visible:
+ * an obstacle spawns, loses HP, is destroyed or expires.
+ * Lets the view keep a cached picture of the static scenery without diffing the obstacle list.
+ */
+public interface ObstacleListener {
+
+    /**
+     * Called on the simulation thread, while the game state lock is held.
+     * @param obstacle The obstacle that was added, damaged or removed.
+     */
+    void obstacleChanged(Obstacle obstacle);
+
+    /**
+     * Listener that ignores every change, used until a view registers.
+     */
+    ObstacleListener NONE = obstacle -> {};
+}
@@ -0,0 +1,174 @@
+package com.lastpenguin.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fixed-capacity store for every cosmetic particle in the arena.
+ * <p>
+ * Like {@link EntityWorld}, particle state lives in parallel primitive arrays indexed
+ * from 0 to {@link #size()} - 1, so emitting, moving and expiring particles never creates
+ * objects. Particles are never referenced from outside, so removal simply swaps the last
+ * particle into the freed slot. The capacity never
+ * grows: bursts that do not fit are cut short instead. Particles are purely visual and
+ * draw from the session's cosmetic random stream, so they never influence gameplay.
+ */
+public class ParticleSystem {
+    // --- Particle types ---
+
+    /** Snow puff left by a defeated Yeti. */
+    public static final byte SNOW = 0;
+    /** Ice shard from a destroyed obstacle. */
+    public static final byte ICE = 1;
+    /** Burning debris thrown out by a meteor impact. */
+    public static final byte EMBER = 2;
+    /** Footprint left behind the player; does not move. */
+    public static final byte FOOTSTEP = 3;
+    public static final int TYPE_COUNT = 4;
+
+    public static final int DEFAULT_CAPACITY = 16384;
+
+    // Per-type velocity retained each tick and downward pull, indexed by type
+    private static final float[] DRAG = {0.92f, 0.95f, 0.96f, 0f};
+    private static final float[] GRAVITY = {-0.02f, 0.12f, 0.08f, 0f};
+
+    private final float[] x, y, prevX, prevY, vx, vy;
+    private final short[] life, maxLife;
+    private final byte[] type;
+    private final SplittableRandom rng;
+    private int count = 0;
+
+    public ParticleSystem(SplittableRandom rng) {
+        this(DEFAULT_CAPACITY, rng);
+    }
+
+    public ParticleSystem(int capacity, SplittableRandom rng) {
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new short[capacity];
+        maxLife = new short[capacity];
+        type = new byte[capacity];
+        this.rng = rng;
+    }
+
+    // --- Emitters ---
+
+    /**
+     * Bursts of snow where a Yeti was defeated.
+     */
+    public void emitYetiDeath(int centerX, int centerY) {
+        burst(SNOW, centerX, centerY, 24, 0.5, 2.5, 25, 45);
+    }
+
+    /**
+     * Scatters ice shards from the center of a destroyed obstacle.
+     */
+    public void emitObstacleBreak(int centerX, int centerY) {
+        burst(ICE, centerX, centerY, 40, 1.0, 4.0, 30, 55);
+    }
+
+    /**
+     * Throws burning debris out of a meteor's impact site.
+     */
+    public void emitMeteorImpact(int centerX, int centerY) {
+        burst(EMBER, centerX, centerY, 90, 1.5, 6.0, 35, 70);
+    }
+
+    /**
+     * Leaves a single fading footprint at the given position.
+     */
+    public void emitFootstep(int footX, int footY) {
+        emit(FOOTSTEP, footX, footY, 0, 0, 90);
+    }
+
+    /**
+     * Emits particles flying in random directions with random speeds and lifespans.
+     */
+    public void burst(byte particleType, int centerX, int centerY, int particles,
+                      double minSpeed, double maxSpeed, int minLife, int maxLifeTicks) {
+        for (int n = 0; n < particles && count < x.length; n++) {
+            double angle = rng.nextDouble(0, Math.PI * 2);
+            double speed = rng.nextDouble(minSpeed, maxSpeed);
+            emit(particleType, centerX, centerY, (float) (Math.cos(angle) * speed), (float) (Math.sin(angle) * speed),
+                    rng.nextInt(minLife, maxLifeTicks + 1));
+        }
+    }
+
+    /**
+     * Adds one particle, or drops it silently if the system is full.
+     */
+    public void emit(byte particleType, float startX, float startY, float velocityX, float velocityY, int lifeTicks) {
+        if (count == x.length) return;
+        int i = count++;
+        x[i] = prevX[i] = startX;
+        y[i] = prevY[i] = startY;
+        vx[i] = velocityX;
+        vy[i] = velocityY;
+        life[i] = maxLife[i] = (short) Math.min(Short.MAX_VALUE, Math.max(1, lifeTicks));
+        type[i] = particleType;
+    }
+
+    // --- Simulation ---
+
+    /**
+     * Records current positions as the start points for render interpolation.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    /**
+     * Moves every particle one tick and expires those whose lifespan ran out.
+     */
+    public void update() {
+        int i = 0;
+        while (i < count) {
+            if (--life[i] <= 0) {
+                remove(i);
+                continue;
+            }
+            int t = type[i];
+            x[i] += vx[i];
+            y[i] += vy[i];
+            vx[i] *= DRAG[t];
+            vy[i] = vy[i] * DRAG[t] + GRAVITY[t];
+            i++;
+        }
+    }
+
+    private void remove(int i) {
+        int last = --count;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            life[i] = life[last];
+            maxLife[i] = maxLife[last];
+            type[i] = type[last];
+        }
+    }
+
+    public void clear() { count = 0; }
+
+    // --- Indexed Accessors for Rendering ---
+
+    public int size() { return count; }
+    public int capacity() { return x.length; }
+    public float getX(int i) { return x[i]; }
+    public float getY(int i) { return y[i]; }
+    public float getPrevX(int i) { return prevX[i]; }
+    public float getPrevY(int i) { return prevY[i]; }
+    public byte getType(int i) { return type[i]; }
+
+    /**
+     * Fades linearly from 1.0 when emitted to 0.0 at the end of the particle's life.
+     */
+    public float getOpacity(int i) { return (float) life[i] / maxLife[i]; }
+}
@@ -1,15 +1,17 @@
 package com.lastpenguin.model;
 
-import java.awt.Rectangle;
-
 /**
  * Represents the player entity within the game.
  * Manages movement constraints, ammunition tracking, scoring statistics, 
  * and the state of special abilities and buffs.
  */
 public class Player {
+    /** Edge length of the player's square collision box. */
+    public static final int SIZE = 40;
+
     private String username;
     private int x, y, score, remainingBullets, yetiKilled, missedShots;
+    private int prevX, prevY;
     private int lastDx = 0, lastDy = -1; 
     private boolean alive = true;
     
@@ -21,6 +23,8 @@ public class Player {
         this.username = username;
         this.x = 375; 
         this.y = 200;
+        this.prevX = x;
+        this.prevY = y;
         this.remainingBullets = startingBullets; 
         this.score = 0;
         this.yetiKilled = 0;
@@ -46,11 +50,26 @@ public class Player {
         if (y > 550) y = 550;
     }
 
+    // --- Collision Box (max corner exclusive) ---
+
+    public int getMinX() { return x; }
+    public int getMinY() { return y; }
+    public int getMaxX() { return x + SIZE; }
+    public int getMaxY() { return y + SIZE; }
+
+    /**
+     * Tests the player's collision box against another box without allocating.
+     */
+    public boolean overlaps(int minX, int minY, int maxX, int maxY) {
+        return AABB.overlaps(x, y, x + SIZE, y + SIZE, minX, minY, maxX, maxY);
+    }
+
     /**
-     * Returns the bounding box for collision detection.
+     * Records the current position as the start point for render interpolation.
      */
-    public Rectangle getBounds() {
-        return new Rectangle(x, y, 40, 40);
+    public void savePreviousPosition() {
+        this.prevX = x;
+        this.prevY = y;
     }
 
     public void die() { this.alive = false; }
@@ -89,6 +108,8 @@ public class Player {
 
     public int getX() { return x; }
     public int getY() { return y; }
+    public int getPrevX() { return prevX; }
+    public int getPrevY() { return prevY; }
     public int getScore() { return score; }
     public int getRemainingBullets() { return remainingBullets; }
     public int getYetiKilled() { return yetiKilled; }
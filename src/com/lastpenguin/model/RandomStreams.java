@@ -0,0 +1,42 @@
+package com.lastpenguin.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * The random number source of one game session, split into independent streams per subsystem.
+ * <p>
+ * Every stream is derived from a single seed, so a session is reproducible from that seed
+ * alone. Because the streams are independent, drawing more numbers in one subsystem (for
+ * example extra particles) does not shift the sequence seen by another (for example enemy
+ * spawns). {@link SplittableRandom} keeps its state in plain fields instead of an atomic,
+ * so a call costs a few arithmetic instructions. Like the rest of the session state, the
+ * streams are not thread-safe and must only be used while holding the game state lock.
+ */
+public final class RandomStreams {
+    private final long seed;
+    private final SplittableRandom spawn, ai, combat, vfx;
+
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        // Split in a fixed order so each stream always gets the same sequence for a seed
+        spawn = root.split();
+        ai = root.split();
+        combat = root.split();
+        vfx = root.split();
+    }
+
+    public long getSeed() { return seed; }
+
+    /** Obstacle placement and enemy spawn positions. */
+    public SplittableRandom spawn() { return spawn; }
+
+    /** Enemy movement decisions, such as wandering while the player is invisible. */
+    public SplittableRandom ai() { return ai; }
+
+    /** Enemy fire decisions. */
+    public SplittableRandom combat() { return combat; }
+
+    /** Purely cosmetic randomness like particle velocities; never affects game state. */
+    public SplittableRandom vfx() { return vfx; }
+}
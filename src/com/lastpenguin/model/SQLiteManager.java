@@ -3,32 +3,182 @@ package com.lastpenguin.model;
 import java.io.File;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Manages local database operations using SQLite.
  * Handles the initialization of the local schema, player profiles, session
  * records,
  * and persistent application settings.
+ * <p>
+ * Connections are long-lived: a single writer connection serializes all writes and a
+ * small pool of reader connections serves queries. Both run in WAL mode so readers
+ * never block the writer, and each connection caches its prepared statements.
  */
 public class SQLiteManager {
     private static final String DATA_DIR;
     private static final String DB_URL;
 
+    private static final int READER_POOL_SIZE = 2;
+    private static final int BUSY_TIMEOUT_MS = 5000;
+
+    private static final Object WRITE_LOCK = new Object();
+    private static CachedConnection writer;
+    private static final BlockingQueue<CachedConnection> idleReaders = new ArrayBlockingQueue<>(READER_POOL_SIZE);
+    private static int openReaders = 0;
+
     static {
-        // Store database in user's AppData folder for consistent access
+        // Store database in user's AppData folder for consistent access.
+        // -Dlastpenguin.dataDir overrides it (used by benchmarks and test runs).
         String userHome = System.getProperty("user.home");
-        DATA_DIR = userHome + File.separator + ".lastpenguin";
+        DATA_DIR = System.getProperty("lastpenguin.dataDir", userHome + File.separator + ".lastpenguin");
         DB_URL = "jdbc:sqlite:" + DATA_DIR + File.separator + "antarctica.db";
+
+        // The JVM starts shutdown hooks concurrently, so one hook does both steps in order
+        Runtime.getRuntime().addShutdownHook(new Thread(SQLiteManager::shutdown, "sqlite-shutdown"));
+    }
+
+    /**
+     * A pooled connection together with its prepared-statement cache.
+     */
+    private static final class CachedConnection {
+        final Connection conn;
+        final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        CachedConnection(Connection conn) { this.conn = conn; }
+
+        /**
+         * Returns the cached statement for the SQL text, preparing it on first use.
+         */
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement ps = statements.get(sql);
+            if (ps == null) {
+                ps = conn.prepareStatement(sql);
+                statements.put(sql, ps);
+            }
+            return ps;
+        }
+
+        void close() {
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                System.err.println("Failed to close database connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the folder holding the local database and its side files.
+     */
+    static File getDataDir() {
+        return new File(DATA_DIR);
     }
 
     /**
-     * Establishes a connection to the local SQLite database.
+     * Establishes a new standalone connection to the local SQLite database.
+     * Regular operations use the pooled connections instead.
      */
     public static Connection connect() throws SQLException {
         return DriverManager.getConnection(DB_URL);
     }
 
+    /**
+     * Opens a connection configured for concurrent WAL access.
+     */
+    private static CachedConnection open() throws SQLException {
+        Connection conn = connect();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA journal_mode=WAL");
+            stmt.execute("PRAGMA synchronous=NORMAL");
+            stmt.execute("PRAGMA busy_timeout=" + BUSY_TIMEOUT_MS);
+        }
+        return new CachedConnection(conn);
+    }
+
+    /**
+     * Returns the shared writer connection, opening it on first use.
+     * Callers must hold {@link #WRITE_LOCK}.
+     */
+    private static CachedConnection writer() throws SQLException {
+        if (writer == null) writer = open();
+        return writer;
+    }
+
+    /**
+     * Drops the writer after a failure so the next write reopens a clean connection.
+     */
+    private static void discardWriter() {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * Takes an idle reader, opening a new one while the pool is below its limit
+     * and otherwise waiting for one to be returned.
+     */
+    private static CachedConnection borrowReader() throws SQLException {
+        CachedConnection reader = idleReaders.poll();
+        if (reader != null) return reader;
+
+        synchronized (idleReaders) {
+            if (openReaders < READER_POOL_SIZE) {
+                reader = open();
+                openReaders++;
+                return reader;
+            }
+        }
+        try {
+            return idleReaders.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    /**
+     * Returns a reader to the pool, or closes it if the last operation failed.
+     */
+    private static void releaseReader(CachedConnection reader, boolean healthy) {
+        if (healthy && idleReaders.offer(reader)) return;
+        reader.close();
+        synchronized (idleReaders) {
+            openReaders--;
+        }
+    }
+
+    /**
+     * Closes every pooled connection.
+     */
+    public static void closeAll() {
+        synchronized (WRITE_LOCK) {
+            discardWriter();
+        }
+        CachedConnection reader;
+        while ((reader = idleReaders.poll()) != null) {
+            reader.close();
+            synchronized (idleReaders) {
+                openReaders--;
+            }
+        }
+    }
+
+    /**
+     * Commits the sessions still waiting in {@link ScoreQueue}, then closes the pooled
+     * connections so the WAL is checkpointed back into the database.
+     */
+    private static void shutdown() {
+        ScoreQueue.flush();
+        closeAll();
+    }
+
     /**
      * Initializes the database structure by creating required tables and directory.
      * Sets up relational tables for players and scores, and initializes default
@@ -37,40 +187,132 @@ public class SQLiteManager {
     public static void initDatabase() {
         File directory = new File(DATA_DIR);
         if (!directory.exists())
-            directory.mkdir();
-
-        try (Connection conn = connect(); Statement stmt = conn.createStatement()) {
-            // Player profiles table with unique username constraint
-            stmt.execute("CREATE TABLE IF NOT EXISTS players (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                    "username TEXT UNIQUE NOT NULL);");
-
-            // Relational scores table tracking session statistics and difficulty modes
-            stmt.execute("CREATE TABLE IF NOT EXISTS scores (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                    "player_id INTEGER NOT NULL, " +
-                    "score INTEGER NOT NULL, " +
-                    "yeti_killed INTEGER NOT NULL, " +
-                    "missed_shots INTEGER DEFAULT 0, " +
-                    "remaining_bullets INTEGER DEFAULT 0, " +
-                    "difficulty TEXT NOT NULL, " +
-                    "mode TEXT NOT NULL, " +
-                    "played_at DATETIME DEFAULT CURRENT_TIMESTAMP, " +
-                    "FOREIGN KEY (player_id) REFERENCES players(id));");
-
-            // Application settings table for persistent configurations
-            stmt.execute("CREATE TABLE IF NOT EXISTS settings (" +
-                    "id INTEGER PRIMARY KEY CHECK (id = 1), " +
-                    "music_volume INTEGER DEFAULT 50, " +
-                    "last_difficulty TEXT DEFAULT 'EASY', " +
-                    "last_mode TEXT DEFAULT 'OFFLINE');");
-
-            // Insert default configuration if it does not already exist
-            stmt.execute(
-                    "INSERT OR IGNORE INTO settings (id, music_volume, last_difficulty, last_mode) VALUES (1, 50, 'EASY', 'OFFLINE');");
+            directory.mkdirs();
 
-        } catch (SQLException e) {
-            System.err.println("Database Initialization Failed: " + e.getMessage());
+        synchronized (WRITE_LOCK) {
+            try (Statement stmt = writer().conn.createStatement()) {
+                // Player profiles table with unique username constraint
+                stmt.execute("CREATE TABLE IF NOT EXISTS players (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                        "username TEXT UNIQUE NOT NULL);");
+
+                // Relational scores table tracking session statistics and difficulty modes
+                stmt.execute("CREATE TABLE IF NOT EXISTS scores (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                        "player_id INTEGER NOT NULL, " +
+                        "score INTEGER NOT NULL, " +
+                        "yeti_killed INTEGER NOT NULL, " +
+                        "missed_shots INTEGER DEFAULT 0, " +
+                        "remaining_bullets INTEGER DEFAULT 0, " +
+                        "difficulty TEXT NOT NULL, " +
+                        "mode TEXT NOT NULL, " +
+                        "played_at DATETIME DEFAULT CURRENT_TIMESTAMP, " +
+                        "FOREIGN KEY (player_id) REFERENCES players(id));");
+
+                // Application settings table for persistent configurations
+                stmt.execute("CREATE TABLE IF NOT EXISTS settings (" +
+                        "id INTEGER PRIMARY KEY CHECK (id = 1), " +
+                        "music_volume INTEGER DEFAULT 50, " +
+                        "last_difficulty TEXT DEFAULT 'EASY', " +
+                        "last_mode TEXT DEFAULT 'OFFLINE');");
+
+                // Durable queue of online sessions still waiting to be uploaded to MySQL
+                stmt.execute("CREATE TABLE IF NOT EXISTS score_outbox (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                        "username TEXT NOT NULL, " +
+                        "score INTEGER NOT NULL, " +
+                        "yeti_killed INTEGER NOT NULL, " +
+                        "missed_shots INTEGER DEFAULT 0, " +
+                        "remaining_bullets INTEGER DEFAULT 0, " +
+                        "difficulty TEXT NOT NULL, " +
+                        "attempts INTEGER DEFAULT 0, " +
+                        "created_at DATETIME DEFAULT CURRENT_TIMESTAMP);");
+
+                // Insert default configuration if it does not already exist
+                stmt.execute(
+                        "INSERT OR IGNORE INTO settings (id, music_volume, last_difficulty, last_mode) VALUES (1, 50, 'EASY', 'OFFLINE');");
+
+                // Per-player summary kept up to date by saveScores, so the leaderboard is an indexed read
+                stmt.execute("CREATE TABLE IF NOT EXISTS player_stats (" +
+                        "player_id INTEGER NOT NULL, " +
+                        "difficulty TEXT NOT NULL, " +
+                        "best_score INTEGER NOT NULL, " +
+                        "best_missed INTEGER NOT NULL, " +
+                        "last_bullets INTEGER NOT NULL, " +
+                        "PRIMARY KEY (player_id, difficulty), " +
+                        "FOREIGN KEY (player_id) REFERENCES players(id));");
+                stmt.execute("CREATE INDEX IF NOT EXISTS idx_player_stats_rank " +
+                        "ON player_stats (difficulty, best_score DESC);");
+
+                migrate(writer().conn);
+            } catch (SQLException e) {
+                discardWriter();
+                System.err.println("Database Initialization Failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Brings databases created by older versions up to the current schema version,
+     * tracked in SQLite's {@code user_version} header field.
+     */
+    private static void migrate(Connection conn) throws SQLException {
+        int version;
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            version = rs.next() ? rs.getInt(1) : 0;
+        }
+
+        if (version < 1) {
+            // Version 1: fill player_stats from the sessions recorded before it existed
+            conn.setAutoCommit(false);
+            try {
+                rebuildPlayerStats(conn);
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("PRAGMA user_version = 1");
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+            System.out.println("[DB] Player statistics rebuilt from session history.");
+        }
+
+        if (version < 2) {
+            // Version 2: outbox entries the server keeps rejecting are parked instead of blocking the queue
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("ALTER TABLE score_outbox ADD COLUMN parked INTEGER NOT NULL DEFAULT 0");
+                stmt.execute("PRAGMA user_version = 2");
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Recomputes player_stats from the full scores table: the highest score per player
+     * and difficulty (latest session wins ties) and the ammunition left after the most
+     * recent session. Runs inside the caller's transaction.
+     */
+    static void rebuildPlayerStats(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM player_stats");
+            stmt.execute("INSERT INTO player_stats (player_id, difficulty, best_score, best_missed, last_bullets) " +
+                    "SELECT s.player_id, s.difficulty, s.score, s.missed_shots, " +
+                    "       (SELECT l.remaining_bullets FROM scores l " +
+                    "        WHERE l.player_id = s.player_id AND l.difficulty = s.difficulty " +
+                    "        ORDER BY l.played_at DESC, l.id DESC LIMIT 1) " +
+                    "FROM scores s " +
+                    "WHERE s.id = (SELECT b.id FROM scores b " +
+                    "              WHERE b.player_id = s.player_id AND b.difficulty = s.difficulty " +
+                    "              ORDER BY b.score DESC, b.played_at DESC, b.id DESC LIMIT 1)");
         }
     }
 
@@ -80,20 +322,27 @@ public class SQLiteManager {
      * Returns 0 for new players with no existing records.
      */
     public static int getLastBulletCount(String username, String difficulty) {
-        String sql = "SELECT s.remaining_bullets FROM scores s " +
-                "JOIN players p ON s.player_id = p.id " +
-                "WHERE p.username = ? AND s.difficulty = ? " +
-                "ORDER BY s.played_at DESC LIMIT 1";
+        String sql = "SELECT ps.last_bullets FROM player_stats ps " +
+                "JOIN players p ON ps.player_id = p.id " +
+                "WHERE p.username = ? AND ps.difficulty = ?";
 
-        try (Connection conn = connect(); PreparedStatement ps = conn.prepareStatement(sql)) {
+        CachedConnection reader = null;
+        boolean healthy = true;
+        try {
+            reader = borrowReader();
+            PreparedStatement ps = reader.prepare(sql);
             ps.setString(1, username);
             ps.setString(2, difficulty);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) {
-                return rs.getInt("remaining_bullets");
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt("last_bullets");
+                }
             }
         } catch (SQLException e) {
+            healthy = false;
             System.err.println("Failed to retrieve remaining ammunition: " + e.getMessage());
+        } finally {
+            if (reader != null) releaseReader(reader, healthy);
         }
         return 0;
     }
@@ -106,39 +355,36 @@ public class SQLiteManager {
     public static List<Object[]> getLeaderboardData(String difficulty) {
         List<Object[]> data = new ArrayList<>();
 
-        // Complex query utilizing joins and subqueries to synchronize high scores
-        // with ammunition data from the most recent session.
-        String sql = "SELECT p.username, s.score as high_score, s.missed_shots, " +
-                "       (SELECT remaining_bullets FROM scores WHERE player_id = p.id AND difficulty = ? ORDER BY played_at DESC LIMIT 1) as last_bullets "
-                +
-                "FROM scores s " +
-                "JOIN players p ON s.player_id = p.id " +
-                "INNER JOIN (" +
-                "    SELECT player_id, MAX(score) as max_score " +
-                "    FROM scores " +
-                "    WHERE difficulty = ? " +
-                "    GROUP BY player_id" +
-                ") m ON s.player_id = m.player_id AND s.score = m.max_score " +
-                "WHERE s.difficulty = ? " +
-                "GROUP BY p.username " +
-                "ORDER BY high_score DESC LIMIT 50";
-
-        try (Connection conn = connect(); PreparedStatement ps = conn.prepareStatement(sql)) {
+        // Top-50 read from the per-player summary, served by idx_player_stats_rank
+        String sql = "SELECT p.username, ps.best_score AS high_score, ps.best_missed AS missed_shots, " +
+                "       ps.last_bullets " +
+                "FROM player_stats ps " +
+                "JOIN players p ON ps.player_id = p.id " +
+                "WHERE ps.difficulty = ? " +
+                "ORDER BY ps.best_score DESC LIMIT 50";
+
+        CachedConnection reader = null;
+        boolean healthy = true;
+        try {
+            reader = borrowReader();
+            PreparedStatement ps = reader.prepare(sql);
             ps.setString(1, difficulty);
-            ps.setString(2, difficulty);
-            ps.setString(3, difficulty);
-
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                data.add(new Object[] {
-                        rs.getString("username"),
-                        rs.getInt("high_score"),
-                        rs.getInt("missed_shots"),
-                        rs.getInt("last_bullets")
-                });
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    data.add(new Object[] {
+                            rs.getString("username"),
+                            rs.getInt("high_score"),
+                            rs.getInt("missed_shots"),
+                            rs.getInt("last_bullets")
+                    });
+                }
             }
         } catch (SQLException e) {
+            healthy = false;
             System.err.println("Failed to retrieve leaderboard statistics: " + e.getMessage());
+        } finally {
+            if (reader != null) releaseReader(reader, healthy);
         }
         return data;
     }
@@ -150,41 +396,185 @@ public class SQLiteManager {
      */
     public static void saveScore(String username, int score, int killed, int missed, int bullets, String diff,
             String mode) {
-        try (Connection conn = connect()) {
-            // Register player if username is not yet present
-            try (PreparedStatement ps = conn.prepareStatement("INSERT OR IGNORE INTO players (username) VALUES (?)")) {
-                ps.setString(1, username);
-                ps.executeUpdate();
-            }
+        saveScores(Collections.singletonList(new ScoreRecord(username, score, killed, missed, bullets, diff, mode)));
+    }
+
+    /**
+     * Saves a batch of finished sessions in a single transaction on the writer connection.
+     * Players are registered, score rows inserted and online sessions queued in the upload
+     * outbox, each as one JDBC batch, so the whole group costs a single commit.
+     * @return true if the batch was committed.
+     */
+    public static boolean saveScores(List<ScoreRecord> records) {
+        if (records.isEmpty()) return true;
+
+        synchronized (WRITE_LOCK) {
+            try {
+                CachedConnection w = writer();
+                Connection conn = w.conn;
+                conn.setAutoCommit(false);
 
-            // Fetch validated Player ID for relational insertion
-            int playerId = -1;
-            try (PreparedStatement ps = conn.prepareStatement("SELECT id FROM players WHERE username = ?")) {
-                ps.setString(1, username);
-                ResultSet rs = ps.executeQuery();
-                if (rs.next())
-                    playerId = rs.getInt("id");
+                // Register players whose username is not yet present
+                PreparedStatement players = w.prepare("INSERT OR IGNORE INTO players (username) VALUES (?)");
+                for (ScoreRecord r : records) {
+                    players.setString(1, r.getUsername());
+                    players.addBatch();
+                }
+                players.executeBatch();
+
+                // Insert session records, resolving the Player ID in the same statement
+                PreparedStatement scores = w.prepare(
+                        "INSERT INTO scores (player_id, score, missed_shots, remaining_bullets, yeti_killed, difficulty, mode) "
+                        + "SELECT id, ?, ?, ?, ?, ?, ? FROM players WHERE username = ?");
+                PreparedStatement outbox = null;
+                for (ScoreRecord r : records) {
+                    scores.setInt(1, r.getScore());
+                    scores.setInt(2, r.getMissedShots());
+                    scores.setInt(3, r.getRemainingBullets());
+                    scores.setInt(4, r.getYetiKilled());
+                    scores.setString(5, r.getDifficulty());
+                    scores.setString(6, r.getMode());
+                    scores.setString(7, r.getUsername());
+                    scores.addBatch();
+
+                    // Online sessions are uploaded later from the outbox
+                    if (r.isOnline()) {
+                        if (outbox == null) {
+                            outbox = w.prepare("INSERT INTO score_outbox "
+                                    + "(username, score, yeti_killed, missed_shots, remaining_bullets, difficulty) "
+                                    + "VALUES (?, ?, ?, ?, ?, ?)");
+                        }
+                        outbox.setString(1, r.getUsername());
+                        outbox.setInt(2, r.getScore());
+                        outbox.setInt(3, r.getYetiKilled());
+                        outbox.setInt(4, r.getMissedShots());
+                        outbox.setInt(5, r.getRemainingBullets());
+                        outbox.setString(6, r.getDifficulty());
+                        outbox.addBatch();
+                    }
+                }
+                scores.executeBatch();
+                if (outbox != null) outbox.executeBatch();
+
+                // Fold the sessions into the per-player summary, in submission order
+                PreparedStatement stats = w.prepare(
+                        "INSERT INTO player_stats (player_id, difficulty, best_score, best_missed, last_bullets) "
+                        + "SELECT id, ?, ?, ?, ? FROM players WHERE username = ? "
+                        + "ON CONFLICT (player_id, difficulty) DO UPDATE SET "
+                        + "best_missed = CASE WHEN excluded.best_score >= best_score THEN excluded.best_missed ELSE best_missed END, "
+                        + "best_score = MAX(best_score, excluded.best_score), "
+                        + "last_bullets = excluded.last_bullets");
+                for (ScoreRecord r : records) {
+                    stats.setString(1, r.getDifficulty());
+                    stats.setInt(2, r.getScore());
+                    stats.setInt(3, r.getMissedShots());
+                    stats.setInt(4, r.getRemainingBullets());
+                    stats.setString(5, r.getUsername());
+                    stats.addBatch();
+                }
+                stats.executeBatch();
+
+                conn.commit();
+                conn.setAutoCommit(true);
+                System.out.println("[DB] " + records.size() + " session(s) successfully saved.");
+                return true;
+            } catch (SQLException e) {
+                // Closing the connection rolls back the unfinished transaction
+                System.err.println("Database Save Operation Failed: " + e.getMessage());
+                discardWriter();
+                return false;
             }
+        }
+    }
+
+    // --- Upload Outbox ---
+
+    /**
+     * Reads the oldest sessions still waiting to be uploaded to the global server.
+     * Parked entries are skipped.
+     */
+    public static List<ScoreRecord> getPendingUploads(int limit) {
+        List<ScoreRecord> pending = new ArrayList<>();
+        String sql = "SELECT id, attempts, username, score, yeti_killed, missed_shots, remaining_bullets, difficulty "
+                + "FROM score_outbox WHERE parked = 0 ORDER BY id LIMIT ?";
 
-            // Insert session record if player identification is confirmed
-            if (playerId != -1) {
-                String sql = "INSERT INTO scores (player_id, score, missed_shots, remaining_bullets, yeti_killed, difficulty, mode) "
-                        +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?)";
-                try (PreparedStatement ps = conn.prepareStatement(sql)) {
-                    ps.setInt(1, playerId);
-                    ps.setInt(2, score);
-                    ps.setInt(3, missed);
-                    ps.setInt(4, bullets);
-                    ps.setInt(5, killed);
-                    ps.setString(6, diff);
-                    ps.setString(7, mode);
-                    ps.executeUpdate();
-                    System.out.println("[DB] Session progress successfully saved.");
+        CachedConnection reader = null;
+        boolean healthy = true;
+        try {
+            reader = borrowReader();
+            PreparedStatement ps = reader.prepare(sql);
+            ps.setInt(1, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    pending.add(new ScoreRecord(
+                            rs.getLong("id"),
+                            rs.getInt("attempts"),
+                            rs.getString("username"),
+                            rs.getInt("score"),
+                            rs.getInt("yeti_killed"),
+                            rs.getInt("missed_shots"),
+                            rs.getInt("remaining_bullets"),
+                            rs.getString("difficulty"),
+                            GameSettings.ONLINE));
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Database Save Operation Failed: " + e.getMessage());
+            healthy = false;
+            System.err.println("Failed to read upload outbox: " + e.getMessage());
+        } finally {
+            if (reader != null) releaseReader(reader, healthy);
+        }
+        return pending;
+    }
+
+    /**
+     * Removes an outbox entry once the server has accepted it.
+     */
+    public static void completeUpload(long outboxId) {
+        updateOutbox("DELETE FROM score_outbox WHERE id = ?", outboxId);
+    }
+
+    /**
+     * Counts a failed upload attempt against an outbox entry.
+     */
+    public static void recordUploadFailure(long outboxId) {
+        updateOutbox("UPDATE score_outbox SET attempts = attempts + 1 WHERE id = ?", outboxId);
+    }
+
+    /**
+     * Sets an outbox entry aside after the server rejected it or it failed too often,
+     * so the entries behind it are uploaded. The row is kept, not deleted.
+     */
+    public static void parkUpload(long outboxId) {
+        updateOutbox("UPDATE score_outbox SET parked = 1, attempts = attempts + 1 WHERE id = ?", outboxId);
+    }
+
+    /**
+     * Puts every parked outbox entry back in line, giving each one more attempt,
+     * e.g. after the server schema may have been fixed between runs.
+     */
+    public static void unparkUploads() {
+        synchronized (WRITE_LOCK) {
+            try (Statement stmt = writer().conn.createStatement()) {
+                int count = stmt.executeUpdate("UPDATE score_outbox SET parked = 0 WHERE parked = 1");
+                if (count > 0) System.out.println("[DB] " + count + " parked upload(s) queued for another attempt.");
+            } catch (SQLException e) {
+                System.err.println("Failed to update upload outbox: " + e.getMessage());
+                discardWriter();
+            }
+        }
+    }
+
+    private static void updateOutbox(String sql, long outboxId) {
+        synchronized (WRITE_LOCK) {
+            try {
+                PreparedStatement ps = writer().prepare(sql);
+                ps.setLong(1, outboxId);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                System.err.println("Failed to update upload outbox: " + e.getMessage());
+                discardWriter();
+            }
         }
     }
 
@@ -192,15 +582,18 @@ public class SQLiteManager {
      * Updates persistent application settings with current configurations.
      */
     public static void updateSettings(GameSettings settings) {
-        try (Connection conn = connect();
-                PreparedStatement ps = conn.prepareStatement(
-                        "UPDATE settings SET last_difficulty = ?, last_mode = ?, music_volume = ? WHERE id = 1")) {
-            ps.setString(1, settings.getDifficulty());
-            ps.setString(2, settings.getMode());
-            ps.setInt(3, settings.getMusicVolume());
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
+        synchronized (WRITE_LOCK) {
+            try {
+                PreparedStatement ps = writer().prepare(
+                        "UPDATE settings SET last_difficulty = ?, last_mode = ?, music_volume = ? WHERE id = 1");
+                ps.setString(1, settings.getDifficulty());
+                ps.setString(2, settings.getMode());
+                ps.setInt(3, settings.getMusicVolume());
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                e.printStackTrace();
+                discardWriter();
+            }
         }
     }
 
@@ -209,16 +602,22 @@ public class SQLiteManager {
      * Returns default settings if no record is found.
      */
     public static GameSettings loadSettings() {
-        try (Connection conn = connect();
-                Statement stmt = conn.createStatement();
-                ResultSet rs = stmt.executeQuery("SELECT * FROM settings WHERE id = 1")) {
-            if (rs.next()) {
-                return new GameSettings(rs.getInt("music_volume"), 50, rs.getString("last_difficulty"),
-                        rs.getString("last_mode"));
+        CachedConnection reader = null;
+        boolean healthy = true;
+        try {
+            reader = borrowReader();
+            try (ResultSet rs = reader.prepare("SELECT * FROM settings WHERE id = 1").executeQuery()) {
+                if (rs.next()) {
+                    return new GameSettings(rs.getInt("music_volume"), 50, rs.getString("last_difficulty"),
+                            rs.getString("last_mode"));
+                }
             }
         } catch (SQLException e) {
+            healthy = false;
             e.printStackTrace();
+        } finally {
+            if (reader != null) releaseReader(reader, healthy);
         }
         return new GameSettings();
     }
-}
\ No newline at end of file
+}
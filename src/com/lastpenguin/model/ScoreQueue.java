@@ -0,0 +1,309 @@
+package com.lastpenguin.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence pipeline for finished game sessions.
+ * <p>
+ * Game over only enqueues a {@link ScoreRecord}; a single writer thread drains the
+ * bounded queue and commits whatever has accumulated as one batched SQLite transaction.
+ * Online sessions are written to the durable {@code score_outbox} table in the same
+ * transaction, and a separate uploader thread pushes them to MySQL, retrying with
+ * exponential backoff while the server is unreachable. Outbox entries survive restarts,
+ * so a score is never lost because the network was down at game over. Sessions SQLite
+ * refuses are kept in memory and retried with the next batch; any still unsaved at
+ * shutdown are written to a side file and picked up again on the next start. An entry the
+ * server rejects outright, or that keeps failing, is parked so it cannot hold up the
+ * entries behind it; parked entries get another attempt on the next start.
+ */
+public final class ScoreQueue {
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int MAX_BATCH = 64;
+    private static final int UPLOAD_BATCH = 16;
+    // Failed attempts after which an entry is parked even if its errors looked transient
+    private static final int MAX_UPLOAD_ATTEMPTS = 20;
+
+    private static final long INITIAL_BACKOFF_MS = 2_000;
+    private static final long MAX_BACKOFF_MS = 5 * 60_000;
+    // Periodic wake-up so entries left over from a previous run are retried
+    private static final long IDLE_POLL_MS = 60_000;
+    // How soon the writer retries sessions SQLite refused when nothing new arrives
+    private static final long UNSAVED_RETRY_MS = 10_000;
+    private static final String UNSAVED_FILE = "unsaved-scores.bin";
+
+    private static final BlockingQueue<ScoreRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    // Latest not-yet-committed record per player and difficulty, so a quick restart still
+    // resumes with the correct ammunition count
+    private static final Map<String, ScoreRecord> pending = new ConcurrentHashMap<>();
+
+    // Held while a batch is being committed so shutdown can wait for it
+    private static final Object flushLock = new Object();
+    // Sessions SQLite refused, oldest first; guarded by flushLock
+    private static final List<ScoreRecord> unsaved = new ArrayList<>();
+    private static boolean unsavedOnDisk = false;
+    private static final Object uploadSignal = new Object();
+    private static boolean uploadRequested = false;
+    private static boolean started = false;
+
+    private ScoreQueue() {}
+
+    /**
+     * Starts the writer and uploader threads. Safe to call more than once.
+     */
+    public static synchronized void start() {
+        if (started) return;
+        started = true;
+        loadUnsaved();
+
+        Thread writer = new Thread(ScoreQueue::writeLoop, "score-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        Thread uploader = new Thread(ScoreQueue::uploadLoop, "score-uploader");
+        uploader.setDaemon(true);
+        uploader.start();
+    }
+
+    /**
+     * Queues a finished session for persistence and returns immediately.
+     * Only blocks if the writer has fallen a full queue behind.
+     */
+    public static void submit(ScoreRecord record) {
+        start();
+        pending.put(key(record.getUsername(), record.getDifficulty()), record);
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Never drop a score: fall back to a synchronous write
+            synchronized (flushLock) {
+                commit(List.of(record));
+            }
+        }
+    }
+
+    /**
+     * Returns the ammunition carried over from the player's latest session, including
+     * sessions that are still waiting in the queue.
+     */
+    public static int getLastBulletCount(String username, String difficulty) {
+        ScoreRecord latest = pending.get(key(username, difficulty));
+        if (latest != null) return latest.getRemainingBullets();
+        return SQLiteManager.getLastBulletCount(username, difficulty);
+    }
+
+    /**
+     * Synchronously commits every queued session. Sessions that still cannot be saved
+     * are written to a side file so the next start can retry them. Runs from the
+     * SQLite shutdown hook before the connections are closed.
+     */
+    public static void flush() {
+        synchronized (flushLock) {
+            List<ScoreRecord> batch = new ArrayList<>();
+            queue.drainTo(batch);
+            if (!batch.isEmpty() || !unsaved.isEmpty()) commit(batch);
+            if (!unsaved.isEmpty()) storeUnsaved();
+        }
+    }
+
+    // --- Writer ---
+
+    private static void writeLoop() {
+        List<ScoreRecord> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            try {
+                boolean retrying;
+                synchronized (flushLock) {
+                    retrying = !unsaved.isEmpty();
+                }
+                // Wake up on our own while refused sessions are waiting for another try
+                ScoreRecord first = retrying ? queue.poll(UNSAVED_RETRY_MS, TimeUnit.MILLISECONDS) : queue.take();
+                synchronized (flushLock) {
+                    if (first != null) batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    commit(batch);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Saves the batch after any previously refused sessions. Callers must hold {@link #flushLock}.
+     */
+    private static void commit(List<ScoreRecord> batch) {
+        // Earlier refused sessions go first so submission order is kept
+        List<ScoreRecord> all = new ArrayList<>(unsaved.size() + batch.size());
+        all.addAll(unsaved);
+        all.addAll(batch);
+        unsaved.clear();
+
+        List<ScoreRecord> saved = all;
+        if (!SQLiteManager.saveScores(all)) {
+            // Retry row by row so one bad record cannot sink the rest of the batch
+            saved = new ArrayList<>(all.size());
+            for (ScoreRecord r : all) {
+                if (SQLiteManager.saveScores(List.of(r))) {
+                    saved.add(r);
+                } else {
+                    unsaved.add(r);
+                }
+            }
+            if (!unsaved.isEmpty()) {
+                System.err.println("[DB] " + unsaved.size() + " session(s) could not be saved, retrying later");
+            }
+        }
+
+        boolean online = false;
+        for (ScoreRecord r : saved) {
+            online |= r.isOnline();
+            // Only forget the pending entry if no newer session replaced it meanwhile
+            pending.remove(key(r.getUsername(), r.getDifficulty()), r);
+            // The local leaderboard lists every saved session regardless of mode
+            LeaderboardCache.invalidate(GameSettings.OFFLINE, r.getDifficulty());
+        }
+
+        // Everything from the side file is in the database now
+        if (unsaved.isEmpty() && unsavedOnDisk) {
+            unsavedOnDisk = !new File(SQLiteManager.getDataDir(), UNSAVED_FILE).delete();
+        }
+
+        if (online) requestUpload();
+    }
+
+    // --- Side file for sessions SQLite refused ---
+
+    /**
+     * Writes the refused sessions to the side file, replacing its previous contents.
+     * Callers must hold {@link #flushLock}.
+     */
+    private static void storeUnsaved() {
+        File file = new File(SQLiteManager.getDataDir(), UNSAVED_FILE);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(unsaved.size());
+            for (ScoreRecord r : unsaved) {
+                out.writeUTF(r.getUsername());
+                out.writeInt(r.getScore());
+                out.writeInt(r.getYetiKilled());
+                out.writeInt(r.getMissedShots());
+                out.writeInt(r.getRemainingBullets());
+                out.writeUTF(r.getDifficulty());
+                out.writeUTF(r.getMode());
+            }
+            unsavedOnDisk = true;
+            System.err.println("[DB] " + unsaved.size() + " unsaved session(s) kept in " + file);
+        } catch (IOException e) {
+            System.err.println("[DB] Failed to keep unsaved sessions: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queues the sessions left in the side file by a previous run for another attempt.
+     * The file is deleted once they have been saved.
+     */
+    private static void loadUnsaved() {
+        File file = new File(SQLiteManager.getDataDir(), UNSAVED_FILE);
+        if (!file.exists()) return;
+        synchronized (flushLock) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    ScoreRecord r = new ScoreRecord(in.readUTF(), in.readInt(), in.readInt(), in.readInt(),
+                            in.readInt(), in.readUTF(), in.readUTF());
+                    unsaved.add(r);
+                    pending.put(key(r.getUsername(), r.getDifficulty()), r);
+                }
+                unsavedOnDisk = true;
+            } catch (IOException e) {
+                System.err.println("[DB] Failed to read unsaved sessions: " + e.getMessage());
+            }
+        }
+    }
+
+    // --- Uploader ---
+
+    private static void requestUpload() {
+        synchronized (uploadSignal) {
+            uploadRequested = true;
+            uploadSignal.notifyAll();
+        }
+    }
+
+    private static void uploadLoop() {
+        SQLiteManager.unparkUploads();
+        long backoff = INITIAL_BACKOFF_MS;
+        while (true) {
+            boolean failed = false;
+            List<ScoreRecord> uploads = SQLiteManager.getPendingUploads(UPLOAD_BATCH);
+            for (ScoreRecord r : uploads) {
+                MySQLManager.UploadResult result = MySQLManager.saveScoreOnline(r.getUsername(), r.getScore(),
+                        r.getYetiKilled(), r.getMissedShots(), r.getRemainingBullets(), r.getDifficulty());
+                if (result == MySQLManager.UploadResult.SENT) {
+                    SQLiteManager.completeUpload(r.getOutboxId());
+                    LeaderboardCache.invalidate(GameSettings.ONLINE, r.getDifficulty());
+                } else if (result == MySQLManager.UploadResult.REJECTED
+                        || r.getUploadAttempts() + 1 >= MAX_UPLOAD_ATTEMPTS) {
+                    // Retrying this entry will not help; set it aside and carry on with the next one
+                    SQLiteManager.parkUpload(r.getOutboxId());
+                    System.err.println("[ONLINE] Parked upload for " + r.getUsername() + " ("
+                            + (result == MySQLManager.UploadResult.REJECTED ? "rejected by the server"
+                                    : MAX_UPLOAD_ATTEMPTS + " failed attempts") + ")");
+                } else {
+                    // Keep the order of uploads: stop at the first failure and retry later
+                    SQLiteManager.recordUploadFailure(r.getOutboxId());
+                    failed = true;
+                    break;
+                }
+            }
+
+            long waitMs;
+            if (failed) {
+                waitMs = backoff;
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+                System.err.println("[ONLINE] Upload failed, retrying in " + (waitMs / 1000) + "s");
+            } else {
+                backoff = INITIAL_BACKOFF_MS;
+                // A full page means more entries are waiting
+                if (uploads.size() == UPLOAD_BATCH) continue;
+                waitMs = IDLE_POLL_MS;
+            }
+
+            try {
+                synchronized (uploadSignal) {
+                    // New scores wake an idle uploader, but never cut a backoff short
+                    long deadline = System.currentTimeMillis() + waitMs;
+                    while (!(uploadRequested && !failed)) {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) break;
+                        uploadSignal.wait(remaining);
+                    }
+                    uploadRequested = false;
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static String key(String username, String difficulty) {
+        return username + '\n' + difficulty;
+    }
+}
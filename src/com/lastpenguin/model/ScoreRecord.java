@@ -0,0 +1,62 @@
+package com.lastpenguin.model;
+
+/**
+ * Immutable snapshot of a finished game session, captured at game over and handed
+ * to the persistence pipeline. Records read back from the upload outbox also carry
+ * the outbox row id so they can be acknowledged once uploaded, and the number of
+ * failed upload attempts so far.
+ */
+public class ScoreRecord {
+    private final long outboxId;
+    private final int uploadAttempts;
+    private final String username;
+    private final int score;
+    private final int yetiKilled;
+    private final int missedShots;
+    private final int remainingBullets;
+    private final String difficulty;
+    private final String mode;
+
+    /**
+     * Creates a record for a session that has not been persisted yet.
+     */
+    public ScoreRecord(String username, int score, int yetiKilled, int missedShots, int remainingBullets,
+            String difficulty, String mode) {
+        this(-1, 0, username, score, yetiKilled, missedShots, remainingBullets, difficulty, mode);
+    }
+
+    /**
+     * Creates a record loaded from the upload outbox.
+     */
+    public ScoreRecord(long outboxId, int uploadAttempts, String username, int score, int yetiKilled,
+            int missedShots, int remainingBullets, String difficulty, String mode) {
+        this.outboxId = outboxId;
+        this.uploadAttempts = uploadAttempts;
+        this.username = username;
+        this.score = score;
+        this.yetiKilled = yetiKilled;
+        this.missedShots = missedShots;
+        this.remainingBullets = remainingBullets;
+        this.difficulty = difficulty;
+        this.mode = mode;
+    }
+
+    /**
+     * Captures the final statistics of a player at the end of a session.
+     */
+    public static ScoreRecord of(Player player, GameSettings settings) {
+        return new ScoreRecord(player.getUsername(), player.getScore(), player.getYetiKilled(),
+                player.getMissedShots(), player.getRemainingBullets(), settings.getDifficulty(), settings.getMode());
+    }
+
+    public long getOutboxId() { return outboxId; }
+    public int getUploadAttempts() { return uploadAttempts; }
+    public String getUsername() { return username; }
+    public int getScore() { return score; }
+    public int getYetiKilled() { return yetiKilled; }
+    public int getMissedShots() { return missedShots; }
+    public int getRemainingBullets() { return remainingBullets; }
+    public String getDifficulty() { return difficulty; }
+    public String getMode() { return mode; }
+    public boolean isOnline() { return GameSettings.ONLINE.equals(mode); }
+}
@@ -0,0 +1,70 @@
+package com.lastpenguin.presenter;
+
+import com.lastpenguin.model.GameSettings;
+import com.lastpenguin.model.Player;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Checks that the simulation tick stays allocation-free.
+ * <p>
+ * A headless HARD session is played by the scripted bot from {@link HeadlessRunner},
+ * skills included, with a player that cannot die so the session never restarts. After
+ * a warm-up that lets the JIT settle and the entity tables reach their working size, the
+ * bytes allocated by the simulation thread are read from {@code ThreadMXBean} around
+ * {@link #MEASURED_TICKS} ticks. Collision checks, movement, combat and spawning allocate
+ * nothing; the only allocations left are rare events such as an obstacle being replaced
+ * or a meteor leaving a hole, one small object each. The budget is far below a single
+ * object per tick, so any per-tick allocation breaks it. The exit code is 0 when the
+ * budget holds and 1 otherwise.
+ *
+ * <pre>java -Djava.awt.headless=true -cp bin com.lastpenguin.presenter.AllocationBudget</pre>
+ */
+public class AllocationBudget {
+    /** Average bytes the simulation may allocate per tick. */
+    public static final double BUDGET_BYTES_PER_TICK = 1.0;
+    public static final int MEASURED_TICKS = 10_000;
+
+    private static final int WARMUP_TICKS = 20_000;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        if (!(mx instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) mx).isThreadAllocatedMemorySupported()) {
+            System.out.println("[ALLOC] this JVM cannot measure per-thread allocation");
+            System.exit(1);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) mx;
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        GameSettings settings = new GameSettings();
+        settings.setDifficulty(GameSettings.HARD);
+        // Hits are still processed every tick; the player just survives them
+        Player player = new Player("alloc", 50) {
+            @Override public void die() { }
+        };
+        ScriptedInput input = new ScriptedInput();
+        GamePresenter game = GamePresenter.headless(player, settings, input, 42L);
+
+        long tick = 0;
+        while (tick < WARMUP_TICKS) {
+            HeadlessRunner.BOT.apply(tick++, input, game);
+            game.update();
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            HeadlessRunner.BOT.apply(tick++, input, game);
+            game.update();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        double perTick = (double) allocated / MEASURED_TICKS;
+        boolean holds = perTick <= BUDGET_BYTES_PER_TICK;
+        System.out.printf("[ALLOC] %d ticks allocated %d bytes (%.3f B/tick)%n", MEASURED_TICKS, allocated, perTick);
+        System.out.printf("[ALLOC] budget (<= %.1f B/tick): %s%n", BUDGET_BYTES_PER_TICK, holds ? "HOLDS" : "EXCEEDED");
+        System.exit(holds ? 0 : 1);
+    }
+}
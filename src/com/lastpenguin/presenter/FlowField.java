@@ -0,0 +1,162 @@
+package com.lastpenguin.presenter;
+
+import com.lastpenguin.model.Obstacle;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shared path map that leads every enemy around obstacles to a single goal.
+ * <p>
+ * The arena is divided into coarse square cells. A cell is passable when an agent whose
+ * top-left corner sits on the cell's corner does not overlap any obstacle, so the agent's
+ * size is baked into the map. A breadth-first search from the goal cell (8-connected,
+ * without cutting blocked corners) stores for every cell the neighbour one step closer to
+ * the goal. Agents then just look up their cell: the cost is O(cells) whenever the goal
+ * changes cell or the obstacles change, and O(1) per agent per tick.
+ * All buffers are allocated up front, so rebuilding allocates nothing.
+ */
+public class FlowField {
+    /** Edge length of one cell in pixels. */
+    public static final int CELL = 20;
+
+    private static final int UNREACHABLE = -1;
+    // Neighbour offsets: four straight moves first, then the diagonals
+    private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DY = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final int cols, rows;
+    private final int agentSize;
+    private final boolean[] blocked;
+    private final int[] distance;
+    private final int[] next;
+    private final int[] queue;
+
+    private boolean obstaclesDirty = true;
+    private int goalCell = -1;
+
+    /**
+     * Creates a field covering the area from (0, 0) to (width, height) for agents with
+     * a square collision box of the given size.
+     */
+    public FlowField(int width, int height, int agentSize) {
+        this.cols = (width + CELL - 1) / CELL;
+        this.rows = (height + CELL - 1) / CELL;
+        this.agentSize = agentSize;
+        int cells = cols * rows;
+        blocked = new boolean[cells];
+        distance = new int[cells];
+        next = new int[cells];
+        queue = new int[cells];
+    }
+
+    /**
+     * Marks the obstacle layout as changed; passability is rebuilt on the next {@link #update}.
+     */
+    public void invalidateObstacles() {
+        obstaclesDirty = true;
+    }
+
+    /**
+     * Brings the field up to date for a goal position, rebuilding only what changed.
+     * @return True if the paths were recomputed.
+     */
+    public boolean update(List<Obstacle> obstacles, int goalX, int goalY) {
+        int goal = cellAt(goalX, goalY);
+        if (!obstaclesDirty && goal == goalCell) return false;
+        if (obstaclesDirty) {
+            rasterize(obstacles);
+            obstaclesDirty = false;
+        }
+        goalCell = goal;
+        search();
+        return true;
+    }
+
+    /**
+     * Marks every cell whose agent-sized box would overlap an obstacle.
+     */
+    private void rasterize(List<Obstacle> obstacles) {
+        Arrays.fill(blocked, false);
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle o = obstacles.get(i);
+            // Cell c is blocked when [c*CELL, c*CELL + agentSize) overlaps [min, max)
+            int minCol = Math.max(0, Math.floorDiv(o.getMinX() - agentSize, CELL) + 1);
+            int maxCol = Math.min(cols - 1, Math.floorDiv(o.getMaxX() - 1, CELL));
+            int minRow = Math.max(0, Math.floorDiv(o.getMinY() - agentSize, CELL) + 1);
+            int maxRow = Math.min(rows - 1, Math.floorDiv(o.getMaxY() - 1, CELL));
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = minCol; c <= maxCol; c++) blocked[r * cols + c] = true;
+            }
+        }
+    }
+
+    /**
+     * Breadth-first search outward from the goal cell, recording each cell's next step.
+     */
+    private void search() {
+        Arrays.fill(distance, UNREACHABLE);
+        int head = 0, tail = 0;
+        // The goal is seeded even if blocked, so agents still converge on a cornered player
+        distance[goalCell] = 0;
+        next[goalCell] = goalCell;
+        queue[tail++] = goalCell;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int cx = cell % cols, cy = cell / cols;
+            for (int d = 0; d < DX.length; d++) {
+                int nx = cx + DX[d], ny = cy + DY[d];
+                if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) continue;
+                int n = ny * cols + nx;
+                if (blocked[n] || distance[n] != UNREACHABLE) continue;
+                // Diagonal steps may not squeeze between two blocked cells
+                if (d >= 4 && (blocked[cy * cols + nx] || blocked[ny * cols + cx])) continue;
+                distance[n] = distance[cell] + 1;
+                // Searching from the goal, the cell we came from is one step closer to it
+                next[n] = cell;
+                queue[tail++] = n;
+            }
+        }
+    }
+
+    /**
+     * Returns the cell an agent at the given position should head for next.
+     * @return The next cell, the agent's own cell if it has reached the goal cell,
+     *         or -1 if the goal cannot be reached from here.
+     */
+    public int nextCell(int x, int y) {
+        int cell = cellAt(x, y);
+        return distance[cell] == UNREACHABLE ? -1 : next[cell];
+    }
+
+    /**
+     * Checks whether an agent with its top-left corner at (x, y) is certainly clear of every
+     * obstacle. Its box lies within the boxes of the four cell corners around it, so it is
+     * clear if all four cells are passable. Returns false when unsure, e.g. at the edges;
+     * callers then fall back to an exact test.
+     */
+    public boolean isClear(int x, int y) {
+        if (x < 0 || y < 0) return false;
+        int c = x / CELL, r = y / CELL;
+        if (c + 1 >= cols || r + 1 >= rows) return false;
+        int i = r * cols + c;
+        return !blocked[i] && !blocked[i + 1] && !blocked[i + cols] && !blocked[i + cols + 1];
+    }
+
+    /**
+     * Returns the cell nearest to an agent's top-left corner, clamped to the field.
+     */
+    public int cellAt(int x, int y) {
+        int c = Math.max(0, Math.min(cols - 1, (x + CELL / 2) / CELL));
+        int r = Math.max(0, Math.min(rows - 1, (y + CELL / 2) / CELL));
+        return r * cols + c;
+    }
+
+    /** Left edge of a cell, where an agent's top-left corner is placed to stand on it. */
+    public int cellX(int cell) { return (cell % cols) * CELL; }
+
+    /** Top edge of a cell, where an agent's top-left corner is placed to stand on it. */
+    public int cellY(int cell) { return (cell / cols) * CELL; }
+
+    public int getGoalCell() { return goalCell; }
+}
@@ -0,0 +1,230 @@
+package com.lastpenguin.presenter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Records how long each phase of a game frame takes.
+ * <p>
+ * Timings come from {@link System#nanoTime()} and go into fixed-size log-linear
+ * histograms (about 12% resolution) plus a ring of per-tick samples, all allocated up
+ * front, so profiling a frame allocates nothing. Every few seconds the histograms are
+ * summarized into p50/p99/max values for the overlay and cleared again. The sample ring
+ * holds the last minute of ticks and can be exported to CSV.
+ * <p>
+ * Not thread-safe on its own: the simulation and the renderer both record while holding
+ * the game state lock, and readers must hold it as well.
+ */
+public final class FrameProfiler {
+
+    // --- Phases ---
+
+    /** Entity movement and lifetime systems, including meteor impacts. */
+    public static final int SYSTEMS = 0;
+    public static final int TIMERS = 1;
+    public static final int SKILLS = 2;
+    public static final int MOVEMENT = 3;
+    public static final int COMBAT = 4;
+    public static final int COLLISIONS = 5;
+    public static final int OBSTACLES = 6;
+    public static final int SPAWNING = 7;
+    public static final int PARTICLES = 8;
+    /** The whole simulation tick, including the phases above. */
+    public static final int TICK = 9;
+    /** Drawing the game world, including the HUD. Charged to the most recent tick. */
+    public static final int PAINT = 10;
+    public static final int HUD = 11;
+    public static final int PHASE_COUNT = 12;
+
+    private static final String[] PHASE_NAMES = {
+        "systems", "timers", "skills", "movement", "combat", "collisions",
+        "obstacles", "spawning", "particles", "tick", "paint", "hud"
+    };
+
+    // --- Entity counts stored with every sample ---
+
+    public static final int YETIS = 0;
+    public static final int PROJECTILES = 1;
+    public static final int OBSTACLE_COUNT = 2;
+    public static final int METEOR_COUNT = 3;
+    public static final int PARTICLE_COUNT = 4;
+    private static final int COUNTER_COUNT = 5;
+
+    private static final String[] COUNTER_NAMES = { "yetis", "projectiles", "obstacles", "active_meteors", "particles" };
+
+    /** Ticks aggregated into one published summary (five seconds of play). */
+    private static final int WINDOW_TICKS = 5 * GamePresenter.TICKS_PER_SECOND;
+    /** Ticks kept for CSV export (one minute of play). */
+    private static final int HISTORY_TICKS = 60 * GamePresenter.TICKS_PER_SECOND;
+
+    // Values below 16ns get a bucket each; above that, 8 sub-buckets per power of two up to ~2^40ns
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int SUB_BUCKETS = 8;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (40 - 4) * SUB_BUCKETS;
+
+    private final int[][] histograms = new int[PHASE_COUNT][BUCKET_COUNT];
+    private final int[] windowSamples = new int[PHASE_COUNT];
+    private final long[] windowMax = new long[PHASE_COUNT];
+    private final long[] p50 = new long[PHASE_COUNT], p99 = new long[PHASE_COUNT], max = new long[PHASE_COUNT];
+
+    private final long[][] history = new long[HISTORY_TICKS][PHASE_COUNT];
+    private final int[][] historyCounts = new int[HISTORY_TICKS][COUNTER_COUNT];
+    private final long[] historyTick = new long[HISTORY_TICKS];
+    private final int[] counters = new int[COUNTER_COUNT];
+    private long tickNumber = -1;
+    private int row = 0;
+    private int windowTicks = 0;
+
+    /**
+     * Starts a new per-tick sample. Call once at the start of every simulated tick.
+     */
+    public void beginTick() {
+        tickNumber++;
+        row = (int) (tickNumber % HISTORY_TICKS);
+        historyTick[row] = tickNumber;
+        long[] sample = history[row];
+        for (int i = 0; i < PHASE_COUNT; i++) sample[i] = 0;
+    }
+
+    /**
+     * Closes the current tick and stores the entity counts with its sample.
+     * Publishes a new summary once a full window of ticks has been recorded.
+     */
+    public void endTick(int yetis, int projectiles, int obstacles, int meteors, int particles) {
+        counters[YETIS] = yetis;
+        counters[PROJECTILES] = projectiles;
+        counters[OBSTACLE_COUNT] = obstacles;
+        counters[METEOR_COUNT] = meteors;
+        counters[PARTICLE_COUNT] = particles;
+        if (tickNumber >= 0) System.arraycopy(counters, 0, historyCounts[row], 0, COUNTER_COUNT);
+        if (++windowTicks >= WINDOW_TICKS) publish();
+    }
+
+    /**
+     * Records the time elapsed since start for a phase.
+     * @param start A {@link System#nanoTime()} reading taken when the phase began.
+     * @return The current time, so consecutive phases can be chained without a second clock read.
+     */
+    public long mark(int phase, long start) {
+        long now = System.nanoTime();
+        record(phase, now - start);
+        return now;
+    }
+
+    /**
+     * Adds one duration to a phase's histogram and to the current tick's sample.
+     */
+    public void record(int phase, long nanos) {
+        if (nanos < 0) nanos = 0;
+        histograms[phase][bucketOf(nanos)]++;
+        windowSamples[phase]++;
+        if (nanos > windowMax[phase]) windowMax[phase] = nanos;
+        if (tickNumber >= 0) history[row][phase] += nanos;
+    }
+
+    private void publish() {
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            int[] h = histograms[phase];
+            int n = windowSamples[phase];
+            p50[phase] = Math.min(percentile(h, n, 0.50), windowMax[phase]);
+            p99[phase] = Math.min(percentile(h, n, 0.99), windowMax[phase]);
+            max[phase] = windowMax[phase];
+            for (int b = 0; b < BUCKET_COUNT; b++) h[b] = 0;
+            windowSamples[phase] = 0;
+            windowMax[phase] = 0;
+        }
+        windowTicks = 0;
+    }
+
+    private static long percentile(int[] histogram, int samples, double fraction) {
+        if (samples == 0) return 0;
+        long rank = (long) Math.ceil(samples * fraction);
+        long seen = 0;
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            seen += histogram[b];
+            if (seen >= rank) return bucketUpperBound(b);
+        }
+        return bucketUpperBound(BUCKET_COUNT - 1);
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < LINEAR_BUCKETS) return (int) nanos;
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKET_COUNT - 1, LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + sub);
+    }
+
+    private static long bucketUpperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS) return bucket;
+        int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 4;
+        int sub = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - 3);
+        return (SUB_BUCKETS + sub) * width + width - 1;
+    }
+
+    // --- Published summary, refreshed every window ---
+
+    public static String getPhaseName(int phase) { return PHASE_NAMES[phase]; }
+    public long getP50(int phase) { return p50[phase]; }
+    public long getP99(int phase) { return p99[phase]; }
+    public long getMax(int phase) { return max[phase]; }
+
+    /**
+     * Returns an entity count from the most recent tick, e.g. {@link #YETIS}.
+     */
+    public int getCount(int counter) { return counters[counter]; }
+
+    /**
+     * Copies the recorded samples and writes them to a timestamped CSV file in the
+     * {@code profiles} directory on a background thread. One row per tick, oldest first,
+     * with every phase in nanoseconds followed by the entity counts.
+     */
+    public void exportCsv() {
+        int rows = (int) Math.min(tickNumber + 1, HISTORY_TICKS);
+        if (rows <= 0) return;
+        long[] ticks = new long[rows];
+        long[][] samples = new long[rows][];
+        int[][] counts = new int[rows][];
+        int first = (int) ((tickNumber + 1 - rows) % HISTORY_TICKS);
+        for (int i = 0; i < rows; i++) {
+            int r = (first + i) % HISTORY_TICKS;
+            ticks[i] = historyTick[r];
+            samples[i] = history[r].clone();
+            counts[i] = historyCounts[r].clone();
+        }
+
+        Path file = Paths.get("profiles", "frames-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".csv");
+        Thread writer = new Thread(() -> writeCsv(file, ticks, samples, counts), "profile-export");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private static void writeCsv(Path file, long[] ticks, long[][] samples, int[][] counts) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+                StringBuilder header = new StringBuilder("tick");
+                for (String name : PHASE_NAMES) header.append(',').append(name).append("_ns");
+                for (String name : COUNTER_NAMES) header.append(',').append(name);
+                out.println(header);
+
+                StringBuilder line = new StringBuilder();
+                for (int i = 0; i < ticks.length; i++) {
+                    line.setLength(0);
+                    line.append(ticks[i]);
+                    for (long v : samples[i]) line.append(',').append(v);
+                    for (int c : counts[i]) line.append(',').append(c);
+                    out.println(line);
+                }
+            }
+            System.out.println("[PROFILER] " + ticks.length + " frame(s) exported to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Frame profile export failed: " + e.getMessage());
+        }
+    }
+}
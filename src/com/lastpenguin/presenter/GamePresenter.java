@@ -1,10 +1,9 @@
 package com.lastpenguin.presenter;
 
 import com.lastpenguin.model.*;
-import com.lastpenguin.view.GamePanel;
+import java.nio.file.Path;
 import java.util.*;
-import javax.swing.Timer;
-import java.awt.Rectangle;
+import java.util.concurrent.locks.LockSupport;
 import com.lastpenguin.view.Sound;
 
 /**
@@ -13,217 +12,472 @@ import com.lastpenguin.view.Sound;
  * and skill execution logic.
  */
 public class GamePresenter {
+    /** Fixed simulation rate; every frame-counted cooldown assumes exactly this many ticks per second. */
+    public static final int TICKS_PER_SECOND = 60;
+    private static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+    /** Upper bound on ticks simulated back-to-back after a stall before the backlog is dropped. */
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    /** Edge length of destructible obstacles; the view pre-scales their sprites to match. */
+    public static final int OBSTACLE_SIZE = 80;
+    /** Size of the hole left by a meteor impact, keeping the hole artwork's 500x321 aspect ratio. */
+    public static final int HOLE_WIDTH = 160;
+    public static final int HOLE_HEIGHT = HOLE_WIDTH * 321 / 500;
+    // Offset from a Yeti's position to the middle of its 75px sprite
+    private static final int YETI_CENTER = 37;
+    // Yetis closer than this on both axes push each other apart
+    private static final int CROWD_SPACING = 20;
+
     private Player player;
     private GameSettings settings;
-    private List<Yeti> yetis = new ArrayList<>();
-    private List<Projectile> projectiles = new ArrayList<>();
+    // Yetis, snowballs and meteors; obstacles stay a list since they change rarely and feed the caches
+    private final EntityWorld world = new EntityWorld();
     private List<Obstacle> obstacles = new ArrayList<>();
-    private List<Meteor> activeMeteors = new ArrayList<>(); 
+    private ParticleSystem particles;
     private boolean isTargetingMeteor = false; 
     private InputHandler input;
-    private GamePanel view;
-    private Random rand = new Random();
-    private int spawnTimer = 0;
+    // The input of the tick being simulated, latched from the handler once per tick
+    private final InputFrame frame = new InputFrame();
+    private GameView view;
+    private final RandomStreams random;
+    private final WaveDirector waves;
     private int shootCooldown = 0;
+    private int footstepTimer = 0;
+    // Output of computeCrowdPush for the yeti being moved
+    private int crowdPushX, crowdPushY;
+    private boolean leftFoot = false;
+
+    // Broad-phase grids; obstacles are re-indexed only when the set changes, yetis every query pass
+    private SpatialGrid obstacleGrid = new SpatialGrid(800, 640, 64);
+    private SpatialGrid yetiGrid = new SpatialGrid(800, 640, 64);
+    // Yeti positions as points, re-indexed every movement pass for the crowd push
+    private SpatialGrid crowdGrid = new SpatialGrid(800, 640, CROWD_SPACING);
+    private boolean obstacleGridDirty = true;
+    // Yeti paths around obstacles toward the player, on 20px cells; the arena is 640px tall like the grids
+    private final FlowField flowField = new FlowField(800, 640, EntityWorld.YETI_SIZE);
+    private ObstacleListener obstacleListener = ObstacleListener.NONE;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private InputRecorder recorder;
+    private Path recordingFile;
+    private long tickCount = 0;
     
-    private Timer gameLoop;
+    private Thread gameLoop;
+    private volatile boolean running = false;
+    private volatile float interpolation = 1f;
+    private final Object stateLock = new Object();
     private Runnable onGameOverCallback;
     private boolean isGameOverCalled = false;
-    private Sound soundManager = new Sound();
+    private boolean lastPausedUI = false;
+    private SoundEffects soundManager;
+
+    /**
+     * Creates a session bound to an on-screen view, with keyboard/mouse input and audio.
+     * @param onGameOver Invoked once, on the simulation thread, when the player dies.
+     */
+    public GamePresenter(Player player, GameView view, GameSettings settings, Runnable onGameOver) {
+        this(player, view, createSound(settings), new InputHandler(), settings, onGameOver);
+    }
+
+    /**
+     * Creates a session from explicit collaborators, with a random seed.
+     */
+    public GamePresenter(Player player, GameView view, SoundEffects sound, InputHandler input,
+                         GameSettings settings, Runnable onGameOver) {
+        this(player, view, sound, input, settings, onGameOver, new Random().nextLong());
+    }
 
-    public GamePresenter(Player player, GamePanel view, GameSettings settings, Runnable onGameOver) {
+    /**
+     * Creates a session from explicit collaborators.
+     * @param seed Seed of the session's random streams; the same seed and input replay the same session.
+     */
+    public GamePresenter(Player player, GameView view, SoundEffects sound, InputHandler input,
+                         GameSettings settings, Runnable onGameOver, long seed) {
+        this.random = new RandomStreams(seed);
+        this.particles = new ParticleSystem(random.vfx());
         this.player = player;
         this.view = view;
+        this.soundManager = sound;
         this.settings = settings;
-        this.input = new InputHandler();
+        this.input = input;
+        this.waves = new WaveDirector(settings.getDifficulty());
         
         // Attach input listeners to the view component
-        this.view.addKeyListener(input);
-        this.view.addMouseListener(input);
-        this.view.addMouseMotionListener(input);
+        this.view.bindInput(input);
         
         this.onGameOverCallback = onGameOver;
         spawnInitialObstacles(); 
         this.input.setSettings(settings);
-        this.soundManager.setSettings(settings);
+    }
+
+    /**
+     * Creates a session with no view and no audio, driven by the given input.
+     * Call {@link #update()} (or {@link #step(int)}) directly; no thread is started.
+     */
+    public static GamePresenter headless(Player player, GameSettings settings, InputHandler input) {
+        return new GamePresenter(player, GameView.NONE, SoundEffects.NONE, input, settings, null);
+    }
+
+    /**
+     * Creates a headless session with a fixed seed, e.g. to play back a {@link ReplayInput}.
+     */
+    public static GamePresenter headless(Player player, GameSettings settings, InputHandler input, long seed) {
+        return new GamePresenter(player, GameView.NONE, SoundEffects.NONE, input, settings, null, seed);
+    }
+
+    /**
+     * Records the input of every tick from now on and writes it to the given file when
+     * the session ends. Must be called before the first tick.
+     */
+    public void startRecording(Path file) {
+        synchronized (stateLock) {
+            if (tickCount > 0) throw new IllegalStateException("Recording must start before the first tick");
+            recorder = new InputRecorder(random.getSeed(), player, settings);
+            recordingFile = file;
+        }
+    }
+
+    private void finishRecording() {
+        if (recorder == null) return;
+        recorder.finish(player, recordingFile);
+        recorder = null;
+    }
+
+    private static SoundEffects createSound(GameSettings settings) {
+        Sound sound = new Sound();
+        sound.setSettings(settings);
+        return sound;
     }
 
     /**
      * Generates a random obstacle while ensuring it does not spawn 
      * within the player's immediate starting vicinity.
+     * Package-private, like the other tick phases, so the benchmark suite can time it.
      */
-    private void spawnOneRandomObstacle() {
-        Rectangle playerSafeZone = new Rectangle(player.getX() - 50, player.getY() - 50, 150, 150);
+    void spawnOneRandomObstacle() {
+        int safeMinX = player.getX() - 50, safeMinY = player.getY() - 50;
         int ox, oy, initialHp;
-        Rectangle obsRect;
         do {
-            ox = rand.nextInt(600) + 100;
-            oy = rand.nextInt(350) + 50;
-            obsRect = new Rectangle(ox, oy, 80, 80);
-        } while (obsRect.intersects(playerSafeZone));
+            ox = random.spawn().nextInt(600) + 100;
+            oy = random.spawn().nextInt(350) + 50;
+        } while (AABB.overlaps(ox, oy, ox + OBSTACLE_SIZE, oy + OBSTACLE_SIZE, safeMinX, safeMinY, safeMinX + 150, safeMinY + 150));
         
-        initialHp = rand.nextBoolean() ? 30 : 15;
-        obstacles.add(new Obstacle(ox, oy, 80, 80, initialHp));
+        initialHp = random.spawn().nextBoolean() ? 30 : 15;
+        addObstacle(new Obstacle(ox, oy, OBSTACLE_SIZE, OBSTACLE_SIZE, initialHp));
+    }
+
+    /**
+     * Adds an obstacle to the arena, schedules the broad phase and the Yeti flow field
+     * for rebuilding and notifies the obstacle listener.
+     */
+    void addObstacle(Obstacle o) {
+        obstacles.add(o);
+        obstacleGridDirty = true;
+        flowField.invalidateObstacles();
+        o.setListener(obstacleListener);
+        obstacleListener.obstacleChanged(o);
+    }
+
+    /**
+     * Removes the obstacle at the given index, schedules the broad phase and the Yeti
+     * flow field for rebuilding and notifies the obstacle listener.
+     */
+    void removeObstacle(int index) {
+        Obstacle o = obstacles.remove(index);
+        obstacleGridDirty = true;
+        flowField.invalidateObstacles();
+        o.setListener(null);
+        obstacleListener.obstacleChanged(o);
+    }
+
+    /**
+     * Registers the listener told whenever an obstacle spawns, takes damage, is destroyed
+     * or expires. Events are delivered on the simulation thread with the state lock held.
+     */
+    public void setObstacleListener(ObstacleListener listener) {
+        synchronized (stateLock) {
+            obstacleListener = listener != null ? listener : ObstacleListener.NONE;
+            for (int i = 0; i < obstacles.size(); i++) obstacles.get(i).setListener(obstacleListener);
+        }
     }
 
     private void spawnInitialObstacles() {
         obstacles.clear();
+        obstacleGridDirty = true;
+        flowField.invalidateObstacles();
         for(int i = 0; i < 5; i++) {
             spawnOneRandomObstacle();
         }
     }
 
     /**
-     * Main update routine called by the game loop.
+     * Main update routine called once per fixed simulation tick.
      * Synchronizes UI state, handles game-over conditions, 
      * and processes all active entity updates.
      */
     public void update() {
-        // Synchronize UI overlay with the current pause state
-        view.updatePauseUI(input.isPaused());
+        synchronized (stateLock) {
+            tick();
+        }
+    }
+
+    /**
+     * Advances the simulation by the given number of ticks as fast as possible.
+     * Intended for headless runs; do not combine with {@link #startGame()}.
+     */
+    public void step(int ticks) {
+        for (int i = 0; i < ticks; i++) update();
+    }
+
+    /**
+     * Advances the simulation by exactly one fixed step. Callers must hold the state lock.
+     */
+    private void tick() {
+        if (input.consumeProfileExport()) profiler.exportCsv();
+
+        input.latch(frame);
+        if (recorder != null) recorder.record(frame);
+        tickCount++;
+        if (frame.isSurrender()) player.die();
+
+        // Synchronize UI overlay with the current pause state (only on change)
+        boolean paused = frame.isPaused();
+        if (paused != lastPausedUI || (!player.isAlive() && !isGameOverCalled)) {
+            lastPausedUI = paused;
+            view.onPauseStateChanged(paused);
+        }
 
         // Process Game Over state and trigger sound/callback once
         if (!player.isAlive()) {
             if (!isGameOverCalled) {
                 isGameOverCalled = true;
+                finishRecording();
                 soundManager.playEffect("sfx_game_over.wav");
                 if (onGameOverCallback != null) onGameOverCallback.run();
             }
-            view.repaint();
             return; 
         }
         
         // Skip entity updates if the game is paused
-        if (input.isPaused()) { 
-            view.repaint(); 
+        if (paused) { 
             return; 
         }
+
+        profiler.beginTick();
+        long tickStart = System.nanoTime();
+
+        // Remember where everything was so the renderer can interpolate toward the new state.
+        // Hot loops below index the lists and entity rows directly so a tick allocates nothing.
+        player.savePreviousPosition();
+        world.savePreviousPositions();
+        particles.savePreviousPositions();
         
-        // Update falling meteor animations and trigger impacts
-        Iterator<Meteor> metIt = activeMeteors.iterator();
-        while (metIt.hasNext()) {
-            Meteor m = metIt.next();
-            m.update();
-            if (m.isLanded()) {
-                triggerMeteorImpact(m); 
-                metIt.remove();
-            }
+        // Entity systems: snowballs and meteors move, and a meteor's lifetime ends the tick it lands
+        long t = System.nanoTime();
+        world.move();
+        int expired = world.updateLifetimes();
+        for (int i = 0; i < expired; i++) {
+            int row = world.getExpired(i);
+            if (world.getKind(row) == EntityWorld.METEOR) triggerMeteorImpact(row);
         }
+        world.sweep();
+        t = profiler.mark(FrameProfiler.SYSTEMS, t);
         
         // General entity logic updates
         player.updateTimers();
+        t = profiler.mark(FrameProfiler.TIMERS, t);
         handleSkills();
+        t = profiler.mark(FrameProfiler.SKILLS, t);
         handleMovement();
+        t = profiler.mark(FrameProfiler.MOVEMENT, t);
         handleCombat();
+        t = profiler.mark(FrameProfiler.COMBAT, t);
         checkCollisions();
+        t = profiler.mark(FrameProfiler.COLLISIONS, t);
         
         // Refresh and maintain the obstacle count in the arena
-        Iterator<Obstacle> obsIt = obstacles.iterator();
-        while (obsIt.hasNext()) {
-            Obstacle o = obsIt.next();
+        int currentObsCount = 0;
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle o = obstacles.get(i);
             o.update();
             if (o.isDestroyed()) {
                 soundManager.playEffect("sfx_ice_break.wav");
-                obsIt.remove();
+                particles.emitObstacleBreak(o.getX() + o.getWidth() / 2, o.getY() + o.getHeight() / 2);
+                removeObstacle(i--);
             } else if (o.isExpired()) {
-                obsIt.remove();
+                removeObstacle(i--);
+            } else if (!o.isHole()) {
+                currentObsCount++;
             }
         }
 
-        long currentObsCount = obstacles.stream().filter(o -> !o.isHole()).count();
         while (currentObsCount < 5) {
             spawnOneRandomObstacle();
             currentObsCount++;
         }
+        t = profiler.mark(FrameProfiler.OBSTACLES, t);
         
-        // enemy spawn logic based on difficulty settings
-        int spawnRate = settings.getDifficulty().equals(GameSettings.HARD) ? 80 : 
-                        settings.getDifficulty().equals(GameSettings.MEDIUM) ? 120 : 200;
-        spawnTimer++;
-        if (spawnTimer > spawnRate) {
-            int yetiHealth = settings.getDifficulty().equals(GameSettings.HARD) ? 3 : 1;
-            yetis.add(new Yeti(rand.nextInt(700), 580, yetiHealth)); 
-            soundManager.playEffect("sfx_yeti_spawn.wav");
-            spawnTimer = 0;
+        // Enemy spawning, paced by the wave director for the chosen difficulty
+        int spawns = waves.update(world.count(EntityWorld.YETI));
+        for (int i = 0; i < spawns; i++) {
+            world.spawnYeti(random.spawn().nextInt(700), 580, waves.getYetiSpeed());
         }
-
-        view.repaint();
+        if (spawns > 0) soundManager.playEffect("sfx_yeti_spawn.wav");
+        t = profiler.mark(FrameProfiler.SPAWNING, t);
+
+        particles.update();
+        t = profiler.mark(FrameProfiler.PARTICLES, t);
+        profiler.record(FrameProfiler.TICK, t - tickStart);
+        profiler.endTick(world.count(EntityWorld.YETI), world.count(EntityWorld.PROJECTILE), obstacles.size(),
+                world.count(EntityWorld.METEOR), particles.size());
     }
 
     /**
      * Handles player and Yeti movement, including pathfinding 
      * and obstacle collision checks.
      */
-    private void handleMovement() {
+    void handleMovement() {
         int dx = 0, dy = 0;
-        if (input.isUp()) dy--; if (input.isDown()) dy++;
-        if (input.isLeft()) dx--; if (input.isRight()) dx++;
+        if (frame.isUp()) dy--; if (frame.isDown()) dy++;
+        if (frame.isLeft()) dx--; if (frame.isRight()) dx++;
         
         if (dx != 0 || dy != 0) {
             if (System.currentTimeMillis() % 350 < 20) {
                 soundManager.playEffect("sfx_walk.wav");
             }
-            Rectangle currentBounds = player.getBounds();
-            Rectangle nextBounds = new Rectangle(player.getX() + dx * 5, player.getY() + dy * 5, 40, 40);
+            int nextMinX = player.getX() + dx * 5, nextMinY = player.getY() + dy * 5;
+            int nextMaxX = nextMinX + Player.SIZE, nextMaxY = nextMinY + Player.SIZE;
             boolean blocked = false;
 
-            for (Obstacle o : obstacles) {
-                Rectangle obsBounds = new Rectangle(o.getX(), o.getY(), o.getWidth(), o.getHeight());
-                if (nextBounds.intersects(obsBounds)) {
+            SpatialGrid grid = getObstacleGrid();
+            int candidates = grid.query(nextMinX, nextMinY, nextMaxX, nextMaxY);
+            for (int i = 0; i < candidates; i++) {
+                Obstacle o = obstacles.get(grid.getResult(i));
+                if (o.overlaps(nextMinX, nextMinY, nextMaxX, nextMaxY)) {
                     // Logic for falling into holes vs. colliding with solid objects
                     if (o.isHole()) {
-                        if (!currentBounds.intersects(obsBounds)) { blocked = true; break; }
+                        if (!o.overlaps(player.getMinX(), player.getMinY(), player.getMaxX(), player.getMaxY())) { blocked = true; break; }
                     } else {
                         blocked = true; break;
                     }
                 }
             }
-            if (!blocked) player.move(dx, dy);
+            if (!blocked) {
+                player.move(dx, dy);
+                // Alternate left and right footprints every few steps
+                if (++footstepTimer >= 10) {
+                    footstepTimer = 0;
+                    leftFoot = !leftFoot;
+                    particles.emitFootstep(player.getX() + (leftFoot ? 18 : 32), player.getY() + 46);
+                }
+            }
         }
 
-        // Logic for Yeti AI movement and obstacle avoidance
-        for (Yeti y : yetis) {
-            int oldX = y.getX();
-            int oldY = y.getY();
-            int targetX = player.isGhost() ? rand.nextInt(800) : player.getX();
-            int targetY = player.isGhost() ? rand.nextInt(600) : player.getY();
-
-            int moveDx = (oldX < targetX) ? y.getSpeed() : (oldX > targetX) ? -y.getSpeed() : 0;
-            int moveDy = (oldY < targetY) ? y.getSpeed() : (oldY > targetY) ? -y.getSpeed() : 0;
+        // Yetis follow the shared flow field toward the player. It is rebuilt only when the
+        // player enters another cell or the obstacles change; each Yeti just looks up its cell.
+        boolean ghost = player.isGhost();
+        flowField.update(obstacles, player.getX(), player.getY());
+        rebuildCrowdGrid();
+        for (int row = 0, n = world.size(); row < n; row++) {
+            if (!world.isAlive(row, EntityWorld.YETI)) continue;
+            int oldX = world.getX(row);
+            int oldY = world.getY(row);
+            int targetX, targetY;
+            if (ghost) {
+                // The player is invisible: wander aimlessly
+                targetX = random.ai().nextInt(800);
+                targetY = random.ai().nextInt(600);
+            } else {
+                targetX = player.getX();
+                targetY = player.getY();
+                // Head for the next cell on the path; close to the player (or with no path) go straight at it
+                int cell = flowField.nextCell(oldX, oldY);
+                if (cell >= 0 && cell != flowField.getGoalCell()) {
+                    targetX = flowField.cellX(cell);
+                    targetY = flowField.cellY(cell);
+                }
+            }
 
-            boolean movedX = false, movedY = false;
+            world.setTarget(row, targetX, targetY);
+            int speed = world.getSpeed(row);
+            computeCrowdPush(row, speed);
+            // A crowded Yeti makes room before it presses on toward its target
+            int moveDx = crowdPushX != 0 ? crowdPushX : step(oldX, targetX, speed);
+            int moveDy = crowdPushY != 0 ? crowdPushY : step(oldY, targetY, speed);
 
+            // Move one axis at a time so a Yeti grazing an obstacle slides along it.
+            // Positions the flow field knows to be clear skip the exact obstacle test.
             if (moveDx != 0) {
-                y.setPosition(oldX + moveDx, oldY);
-                if (!isYetiColliding(y)) movedX = true;
-                else y.setPosition(oldX, oldY);
+                world.setPosition(row, oldX + moveDx, oldY);
+                if (!flowField.isClear(oldX + moveDx, oldY) && isYetiColliding(row)) world.setPosition(row, oldX, oldY);
             }
-
             if (moveDy != 0) {
-                y.setPosition(y.getX(), oldY + moveDy);
-                if (!isYetiColliding(y)) movedY = true;
-                else y.setPosition(y.getX(), oldY);
+                int curX = world.getX(row);
+                world.setPosition(row, curX, oldY + moveDy);
+                if (!flowField.isClear(curX, oldY + moveDy) && isYetiColliding(row)) world.setPosition(row, curX, oldY);
             }
+            world.animateWalk(row);
+        }
+    }
 
-            // Simple stuck-avoidance logic for enemies
-            if (!movedX && !movedY) {
-                if (moveDx == 0 && moveDy != 0) { 
-                    y.setPosition(oldX + y.getSpeed(), oldY);
-                    if (isYetiColliding(y)) y.setPosition(oldX - y.getSpeed(), oldY);
-                } 
-                else if (moveDy == 0 && moveDx != 0) {
-                    y.setPosition(oldX, oldY + y.getSpeed());
-                    if (isYetiColliding(y)) y.setPosition(oldX, oldY - y.getSpeed());
-                }
-            }
-            y.updateAnimation(targetX, targetY);
+    /**
+     * Returns the signed distance to move from one coordinate toward another, at most speed.
+     */
+    private static int step(int from, int to, int speed) {
+        if (from < to) return Math.min(speed, to - from);
+        if (from > to) return -Math.min(speed, from - to);
+        return 0;
+    }
+
+    private static int clamp(int value, int limit) {
+        return Math.max(-limit, Math.min(limit, value));
+    }
+
+    /**
+     * Indexes every live yeti by its position at the start of the tick, so the crowd push
+     * does not depend on which yetis already moved this tick.
+     */
+    private void rebuildCrowdGrid() {
+        crowdGrid.clear();
+        for (int row = 0, n = world.size(); row < n; row++) {
+            if (!world.isAlive(row, EntityWorld.YETI)) continue;
+            crowdGrid.insert(row, world.getPrevX(row), world.getPrevY(row), world.getPrevX(row) + 1, world.getPrevY(row) + 1);
+        }
+    }
+
+    /**
+     * Separation: every yeti closer than {@link #CROWD_SPACING} on both axes pushes this
+     * one away by a pixel per axis, at most speed per axis. Without it the whole horde
+     * follows the flow field onto the same few path cells and stacks up there. Yetis on
+     * the exact same spot are split by their row order. The result is left in
+     * {@link #crowdPushX} and {@link #crowdPushY}.
+     */
+    private void computeCrowdPush(int row, int speed) {
+        int x = world.getPrevX(row), y = world.getPrevY(row);
+        int pushX = 0, pushY = 0;
+        int candidates = crowdGrid.query(x - CROWD_SPACING + 1, y - CROWD_SPACING + 1, x + CROWD_SPACING, y + CROWD_SPACING);
+        for (int i = 0; i < candidates; i++) {
+            int other = crowdGrid.getResult(i);
+            if (other == row) continue;
+            int dx = x - world.getPrevX(other), dy = y - world.getPrevY(other);
+            if (Math.abs(dx) >= CROWD_SPACING || Math.abs(dy) >= CROWD_SPACING) continue;
+            int tie = row < other ? -1 : 1;
+            pushX += dx != 0 ? Integer.signum(dx) : tie;
+            pushY += dy != 0 ? Integer.signum(dy) : tie;
         }
+        pushX = clamp(pushX, speed);
+        pushY = clamp(pushY, speed);
+        // The crowd never pushes a Yeti out of the 800x640 arena
+        int maxX = 800 - EntityWorld.YETI_SIZE, maxY = 640 - EntityWorld.YETI_SIZE;
+        crowdPushX = x + pushX < 0 || x + pushX > maxX ? 0 : pushX;
+        crowdPushY = y + pushY < 0 || y + pushY > maxY ? 0 : pushY;
     }
 
-    private boolean isYetiColliding(Yeti y) {
-        Rectangle yBounds = y.getBounds();
-        for (Obstacle o : obstacles) {
-            if (yBounds.intersects(new Rectangle(o.getX(), o.getY(), o.getWidth(), o.getHeight()))) {
+    private boolean isYetiColliding(int row) {
+        int minX = world.getMinX(row), minY = world.getMinY(row), maxX = world.getMaxX(row), maxY = world.getMaxY(row);
+        SpatialGrid grid = getObstacleGrid();
+        int candidates = grid.query(minX, minY, maxX, maxY);
+        for (int i = 0; i < candidates; i++) {
+            if (obstacles.get(grid.getResult(i)).overlaps(minX, minY, maxX, maxY)) {
                 return true;
             }
         }
@@ -235,7 +489,7 @@ public class GamePresenter {
      */
     private void handleSkills() {
         // Skill 1: Activates Giant Snowball mode if ammo is sufficient
-        if (input.isS1() && player.getCooldownS1() == 0 && player.getRemainingBullets() >= 5) {
+        if (frame.isS1() && player.getCooldownS1() == 0 && player.getRemainingBullets() >= 5) {
             soundManager.playEffect("sfx_keyboard.wav");
             player.addBullets(-5);
             player.setS1RemainingShots(3);
@@ -243,8 +497,8 @@ public class GamePresenter {
         }
 
         // Skill 2: Toggles targeting mode or spawns Meteor Strike at player position
-        if (input.isS2() && player.getCooldownS2() == 0 && player.getRemainingBullets() >= 10) {
-            if (settings.isUseMouse()) {
+        if (frame.isS2() && player.getCooldownS2() == 0 && player.getRemainingBullets() >= 10) {
+            if (frame.isUseMouse()) {
                 isTargetingMeteor = !isTargetingMeteor; 
             } else {
                 spawnMeteor(player.getX() + 25, player.getY() + 25);
@@ -252,7 +506,7 @@ public class GamePresenter {
         }
 
         // Skill 3: Activates Ghost Mode for temporary invisibility
-        if (input.isS3() && player.getCooldownS3() == 0 && player.getRemainingBullets() >= 3) {
+        if (frame.isS3() && player.getCooldownS3() == 0 && player.getRemainingBullets() >= 3) {
             soundManager.playEffect("sfx_skill_ghost.wav");
             player.addBullets(-3);
             player.setGhostDuration(300); 
@@ -264,19 +518,19 @@ public class GamePresenter {
      * Handles shooting mechanics for both the player and enemies.
      */
     private void handleCombat() {
-        if (isTargetingMeteor && input.isMouseClicked()) {
-            spawnMeteor(input.getMouseX(), input.getMouseY());
+        if (isTargetingMeteor && frame.isMouseClicked()) {
+            spawnMeteor(frame.getMouseX(), frame.getMouseY());
             isTargetingMeteor = false;
             return; 
         }
 
-        boolean wantToShoot = input.isShooting() || (settings.isUseMouse() && input.isMouseClicked());
+        boolean wantToShoot = frame.isShooting() || (frame.isUseMouse() && frame.isMouseClicked());
         
         if (wantToShoot && shootCooldown == 0 && (player.getRemainingBullets() > 0 || player.getS1RemainingShots() > 0)) {
             double targetDx, targetDy;
-            if (settings.isUseMouse() && input.isMouseClicked()) {
-                targetDx = input.getMouseX() - (player.getX() + 25);
-                targetDy = input.getMouseY() - (player.getY() + 25);
+            if (frame.isUseMouse() && frame.isMouseClicked()) {
+                targetDx = frame.getMouseX() - (player.getX() + 25);
+                targetDy = frame.getMouseY() - (player.getY() + 25);
             } else {
                 targetDx = player.getLastDx(); 
                 targetDy = player.getLastDy();
@@ -293,10 +547,9 @@ public class GamePresenter {
                 startY = player.getY() + 17;
             }
 
-            Projectile p = new Projectile(startX, startY, targetDx, targetDy, Projectile.PLAYER_TYPE, 8);
+            world.spawnProjectile(startX, startY, targetDx, targetDy, 8, EntityWorld.OWNER_PLAYER, isGiant);
             
             if (isGiant) {
-                p.setPiercing(true);
                 player.useS1Shot();
                 soundManager.playEffect("sfx_skill_giant.wav");
             } else {
@@ -304,7 +557,6 @@ public class GamePresenter {
                 soundManager.playEffect("sfx_shoot.wav");
             }
             
-            projectiles.add(p);
             shootCooldown = 15;
         } else if (wantToShoot && shootCooldown == 0 && player.getRemainingBullets() <= 0 && player.getS1RemainingShots() <= 0) {
             soundManager.playEffect("sfx_low_ammo.wav");
@@ -313,127 +565,263 @@ public class GamePresenter {
         if (shootCooldown > 0) shootCooldown--;
 
         // Automate Yeti projectile firing based on random intervals
-        for (Yeti y : yetis) {
-            if (rand.nextInt(300) < 2) {
-                soundManager.playEffect("sfx_yeti_shoot.wav");
-                projectiles.add(new Projectile(y.getX()+30, y.getY()+30, player.getX()-y.getX(), player.getY()-y.getY(), Projectile.YETI_TYPE, 6));
+        boolean yetiFired = false;
+        for (int row = 0, n = world.size(); row < n; row++) {
+            if (!world.isAlive(row, EntityWorld.YETI)) continue;
+            if (random.combat().nextInt(300) < 2) {
+                yetiFired = true;
+                int yx = world.getX(row), yy = world.getY(row);
+                world.spawnProjectile(yx + 30, yy + 30, player.getX() - yx, player.getY() - yy, 6, EntityWorld.OWNER_YETI, false);
             }
         }
-
-        // Update active projectiles and check for environmental collisions
-        Iterator<Projectile> it = projectiles.iterator();
-        while (it.hasNext()) {
-            Projectile p = it.next();
-            p.update();
-            
-            if (!p.isPiercing()) {
-                for (Obstacle o : obstacles) {
-                    if (!o.isHole() && p.getBounds().intersects(new Rectangle(o.getX(), o.getY(), o.getWidth(), o.getHeight()))) {
+        // A horde fires many shots per tick; one sound covers them all
+        if (yetiFired) soundManager.playEffect("sfx_yeti_shoot.wav");
+
+        // Check projectiles, already moved by the movement system, against the environment
+        for (int row = 0, n = world.size(); row < n; row++) {
+            if (!world.isAlive(row, EntityWorld.PROJECTILE)) continue;
+
+            if (!world.isPiercing(row)) {
+                int minX = world.getMinX(row), minY = world.getMinY(row);
+                int maxX = world.getMaxX(row), maxY = world.getMaxY(row);
+                SpatialGrid grid = getObstacleGrid();
+                int candidates = grid.query(minX, minY, maxX, maxY);
+                for (int i = 0; i < candidates; i++) {
+                    Obstacle o = obstacles.get(grid.getResult(i));
+                    if (!o.isHole() && o.overlaps(minX, minY, maxX, maxY)) {
                         o.takeDamage(); 
                         soundManager.playEffect("sfx_hit_obstacle.wav");
-                        p.setActive(false); 
+                        world.markSpent(row); 
                         break;
                     }
                 }
             }
 
-            // Cleanup inactive or out-of-bounds projectiles
-            if (!p.isActive() || p.getX() < 0 || p.getX() > 800 || p.getY() < 0 || p.getY() > 600) {
-                if (p.getOwner().equals(Projectile.YETI_TYPE)) {
+            // Cleanup spent or out-of-bounds projectiles
+            int px = world.getX(row), py = world.getY(row);
+            if (world.isSpent(row) || px < 0 || px > 800 || py < 0 || py > 600) {
+                if (world.getOwner(row) == EntityWorld.OWNER_YETI) {
                     player.addBullets(1); 
                     player.registerMiss(); 
                 }
-                it.remove();
+                world.destroy(row);
             }
         }
+        world.sweep();
     }
 
     private void spawnMeteor(int tx, int ty) {
         player.addBullets(-10);
         player.setCooldownS2(900);
-        activeMeteors.add(new Meteor(tx, ty)); 
+        world.spawnMeteor(tx, ty);
     }
 
     /**
      * Executes the impact logic when a meteor hits the ground, 
      * including area-of-effect damage and environmental modification.
      */
-    private void triggerMeteorImpact(Meteor m) {
+    private void triggerMeteorImpact(int meteorRow) {
         soundManager.playEffect("sfx_skill_meteor.wav"); 
-        int targetX = m.getTargetX();
-        int targetY = m.getTargetY();
-        int holeW = 160; 
-        int holeH = (int)(holeW * 321.0 / 500.0);
+        int targetX = world.getTargetX(meteorRow);
+        int targetY = world.getTargetY(meteorRow);
+        int holeW = HOLE_WIDTH; 
+        int holeH = HOLE_HEIGHT;
         int tx = targetX - (holeW / 2);
         int ty = targetY - (holeH / 2);
         
-        // Remove Yeti entities within the blast radius
-        yetis.removeIf(y -> {
-            double dist = Math.sqrt(Math.pow(y.getX() + 30 - targetX, 2) + Math.pow(y.getY() + 30 - targetY, 2));
+        // Remove Yeti entities within the blast radius (centres within 150px of the target)
+        SpatialGrid grid = rebuildYetiGrid();
+        int candidates = grid.query(targetX - 180, targetY - 180, targetX + 180, targetY + 180);
+        for (int i = 0; i < candidates; i++) {
+            int row = grid.getResult(i);
+            int yx = world.getX(row), yy = world.getY(row);
+            double dist = Math.sqrt(Math.pow(yx + 30 - targetX, 2) + Math.pow(yy + 30 - targetY, 2));
             if (dist < 150) { 
+                world.destroy(row);
                 player.registerKill(100); 
                 soundManager.playEffect("sfx_yeti_die.wav");
-                return true; 
+                particles.emitYetiDeath(yx + YETI_CENTER, yy + YETI_CENTER);
             }
-            return false;
-        });
+        }
+        particles.emitMeteorImpact(targetX, targetY);
         
         // Create a persistent environmental hole at the impact site
-        obstacles.add(new Obstacle(tx, ty, holeW, holeH, true, 300)); 
+        addObstacle(new Obstacle(tx, ty, holeW, holeH, true, 300)); 
+    }
+
+    /**
+     * Returns the obstacle grid, re-indexing it first if the obstacle set changed.
+     */
+    private SpatialGrid getObstacleGrid() {
+        if (obstacleGridDirty) {
+            obstacleGrid.clear();
+            for (int i = 0; i < obstacles.size(); i++) {
+                Obstacle o = obstacles.get(i);
+                obstacleGrid.insert(i, o.getMinX(), o.getMinY(), o.getMaxX(), o.getMaxY());
+            }
+            obstacleGridDirty = false;
+        }
+        return obstacleGrid;
+    }
+
+    /**
+     * Re-indexes every live yeti at its current position. Ids are entity rows, valid until
+     * the next {@link EntityWorld#sweep()}.
+     */
+    private SpatialGrid rebuildYetiGrid() {
+        yetiGrid.clear();
+        for (int row = 0, n = world.size(); row < n; row++) {
+            if (!world.isAlive(row, EntityWorld.YETI)) continue;
+            yetiGrid.insert(row, world.getMinX(row), world.getMinY(row), world.getMaxX(row), world.getMaxY(row));
+        }
+        return yetiGrid;
     }
 
     /**
      * Checks for collisions between entities (Player, Yeti, and Projectiles).
      */
-    private void checkCollisions() {
-        Rectangle pBounds = player.getBounds();
-        for (Yeti y : yetis) {
-            if (!player.isGhost() && y.getBounds().intersects(pBounds)) {
-                player.die();
-                return;
+    void checkCollisions() {
+        int pMinX = player.getMinX(), pMinY = player.getMinY(), pMaxX = player.getMaxX(), pMaxY = player.getMaxY();
+        SpatialGrid grid = rebuildYetiGrid();
+
+        // Player versus yeti contact
+        if (!player.isGhost()) {
+            int candidates = grid.query(pMinX, pMinY, pMaxX, pMaxY);
+            for (int i = 0; i < candidates; i++) {
+                if (world.overlaps(grid.getResult(i), pMinX, pMinY, pMaxX, pMaxY)) {
+                    player.die();
+                    return;
+                }
             }
-            for (Projectile p : projectiles) {
-                if (p.getOwner().equals(Projectile.PLAYER_TYPE) && p.getBounds().intersects(y.getBounds())) {
-                    y.takeDamage(100);
-                    p.setHit(true);
-                    if (!p.isPiercing()) p.setActive(false);
-                    if (!y.isAlive()){
+        }
+
+        // Player projectiles versus yetis; a regular snowball stops at the first yeti it hits
+        for (int pi = 0, n = world.size(); pi < n; pi++) {
+            if (!world.isAlive(pi, EntityWorld.PROJECTILE) || world.getOwner(pi) == EntityWorld.OWNER_YETI) continue;
+            int minX = world.getMinX(pi), minY = world.getMinY(pi);
+            int maxX = world.getMaxX(pi), maxY = world.getMaxY(pi);
+            int candidates = grid.query(minX, minY, maxX, maxY);
+            for (int i = 0; i < candidates; i++) {
+                int yi = grid.getResult(i);
+                if (world.isAlive(yi) && world.overlaps(yi, minX, minY, maxX, maxY)) {
+                    world.markHit(pi);
+                    if (world.damage(yi, 100)) {
                         soundManager.playEffect("sfx_yeti_die.wav");
+                        particles.emitYetiDeath(world.getX(yi) + YETI_CENTER, world.getY(yi) + YETI_CENTER);
                         player.registerKill(100);
                     }
+                    if (!world.isPiercing(pi)) {
+                        world.markSpent(pi);
+                        break;
+                    }
                 }
             }
         }
-        for (Projectile p : projectiles) {
-            if (p.getOwner().equals(Projectile.YETI_TYPE) && !player.isGhost() && p.getBounds().intersects(pBounds)) {
-                player.die();
+        if (!player.isGhost()) {
+            for (int pi = 0, n = world.size(); pi < n; pi++) {
+                if (world.isAlive(pi, EntityWorld.PROJECTILE) && world.getOwner(pi) == EntityWorld.OWNER_YETI
+                        && world.overlaps(pi, pMinX, pMinY, pMaxX, pMaxY)) {
+                    player.die();
+                }
             }
         }
-        yetis.removeIf(y -> !y.isAlive());
+        world.sweep();
     }
 
     public List<Obstacle> getObstacles() { return obstacles; }
-    public List<Yeti> getYetis() { return yetis; }
-    public List<Projectile> getProjectiles() { return projectiles; }
-    public List<Meteor> getActiveMeteors() { return activeMeteors; }
+    public ParticleSystem getParticles() { return particles; }
+    public WaveDirector getWaveDirector() { return waves; }
     public boolean isTargetingMeteor() { return isTargetingMeteor; }
     public Player getPlayer() { return player; }
     public InputHandler getInput() { return input; }
+
+    /**
+     * Yetis, snowballs and meteors. Read it while holding the state lock.
+     */
+    public EntityWorld getWorld() { return world; }
+
+    /**
+     * Per-phase frame timings of this session. Read it while holding the state lock.
+     */
+    public FrameProfiler getProfiler() { return profiler; }
+
+    /**
+     * The session's random streams. Use {@link RandomStreams#vfx()} for cosmetic effects
+     * so they never disturb the simulation; hold the state lock while drawing numbers.
+     */
+    public RandomStreams getRandom() { return random; }
+
+    /**
+     * Lock guarding all entity state. Renderers must hold it while reading the entity lists.
+     */
+    public Object getStateLock() { return stateLock; }
+
+    /**
+     * Fraction of a tick elapsed since the last simulation step, in [0, 1].
+     * Used by the view to interpolate between previous and current positions.
+     */
+    public float getInterpolation() { return interpolation; }
     
     /**
-     * Initiates the game loop timer.
+     * Starts the dedicated simulation thread.
      */
     public void startGame() { 
         view.requestFocusInWindow();
-        gameLoop = new Timer(16, e -> update());
+        running = true;
+        gameLoop = new Thread(this::runLoop, "game-loop");
+        gameLoop.setDaemon(true);
         gameLoop.start(); 
     }
 
+    /**
+     * Stops the simulation thread. Safe to call more than once.
+     */
+    public void stopGame() {
+        running = false;
+        synchronized (stateLock) {
+            finishRecording();
+        }
+        if (gameLoop != null && gameLoop != Thread.currentThread()) {
+            gameLoop.interrupt();
+        }
+    }
+
+    /**
+     * Fixed-timestep accumulator loop. Simulates at exactly {@link #TICKS_PER_SECOND},
+     * catches up after short stalls (bounded by {@link #MAX_CATCH_UP_TICKS}) and
+     * presents a frame after each pass.
+     */
+    private void runLoop() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            int ticks = 0;
+            while (accumulator >= TICK_NANOS && ticks < MAX_CATCH_UP_TICKS) {
+                update();
+                accumulator -= TICK_NANOS;
+                ticks++;
+            }
+            // Drop whatever is still owed after a long stall instead of spiralling
+            if (accumulator >= TICK_NANOS) accumulator = 0;
+
+            boolean frozen = input.isPaused() || !player.isAlive();
+            interpolation = frozen ? 1f : (float) accumulator / TICK_NANOS;
+            view.renderFrame();
+
+            long sleep = TICK_NANOS - accumulator - (System.nanoTime() - now);
+            if (sleep > 0) LockSupport.parkNanos(sleep);
+        }
+    }
+
     /**
      * Forces the game into a game-over state via player surrender.
      */
     public void surrender() {
-        player.die();
+        input.requestSurrender();
         update();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.lastpenguin.presenter;
+
+/**
+ * The View contract of the MVP pattern for a game session.
+ * {@link GamePresenter} only talks to its view through this interface, which lets
+ * the simulation run without any display attached (see {@link #NONE}).
+ */
+public interface GameView {
+
+    /**
+     * Registers the input handler with whatever component receives user input.
+     */
+    void bindInput(InputHandler input);
+
+    /**
+     * Called from the simulation thread whenever the pause or game-over state changes.
+     * Implementations are responsible for moving the work onto their UI thread.
+     */
+    void onPauseStateChanged(boolean paused);
+
+    /**
+     * Presents the current game state. Called from the simulation thread after each pass.
+     */
+    void renderFrame();
+
+    /**
+     * Requests keyboard focus for the game surface.
+     */
+    boolean requestFocusInWindow();
+
+    /**
+     * View that ignores every call, used for headless simulation.
+     */
+    GameView NONE = new GameView() {
+        @Override public void bindInput(InputHandler input) {}
+        @Override public void onPauseStateChanged(boolean paused) {}
+        @Override public void renderFrame() {}
+        @Override public boolean requestFocusInWindow() { return false; }
+    };
+}
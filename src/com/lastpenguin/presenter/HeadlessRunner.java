@@ -0,0 +1,68 @@
+package com.lastpenguin.presenter;
+
+import com.lastpenguin.model.EntityWorld;
+import com.lastpenguin.model.GameSettings;
+import com.lastpenguin.model.Player;
+
+/**
+ * Soak-test entry point that runs the game logic without a display or audio.
+ * Sessions are driven by a scripted bot and stepped as fast as the CPU allows;
+ * when the player dies a fresh session starts until the tick budget is spent.
+ *
+ * <pre>java -Djava.awt.headless=true -cp bin com.lastpenguin.presenter.HeadlessRunner [ticks] [difficulty]</pre>
+ */
+public class HeadlessRunner {
+
+    /**
+     * Simple bot: walks a rotating pattern, aims at the first Yeti and fires constantly,
+     * and taps each skill on a fixed schedule.
+     */
+    public static final ScriptedInput.Script BOT = (tick, input, game) -> {
+        int phase = (int) ((tick / 90) % 4);
+        input.setMovement(phase == 0 ? 1 : phase == 2 ? -1 : 0, phase == 1 ? 1 : phase == 3 ? -1 : 0);
+
+        Player p = game.getPlayer();
+        int aimX = p.getX() + 25, aimY = p.getY() - 100;
+        EntityWorld world = game.getWorld();
+        int target = world.first(EntityWorld.YETI);
+        if (target >= 0) {
+            aimX = world.getX(target) + 30;
+            aimY = world.getY(target) + 30;
+        }
+        input.setMouse(aimX, aimY, tick % 2 == 0);
+        input.setShooting(true);
+        input.setSkills(tick % 700 == 0, tick % 1000 == 0, tick % 800 == 0);
+    };
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        long totalTicks = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        String difficulty = args.length > 1 ? args[1].toUpperCase() : GameSettings.EASY;
+
+        GameSettings settings = new GameSettings();
+        settings.setDifficulty(difficulty);
+
+        long ticks = 0;
+        int sessions = 0, maxYetis = 0, maxProjectiles = 0;
+        long start = System.nanoTime();
+        while (ticks < totalTicks) {
+            sessions++;
+            ScriptedInput input = new ScriptedInput();
+            GamePresenter game = GamePresenter.headless(new Player("bot", 50), settings, input);
+            long sessionTick = 0;
+            while (game.getPlayer().isAlive() && ticks < totalTicks) {
+                BOT.apply(sessionTick++, input, game);
+                game.update();
+                ticks++;
+                maxYetis = Math.max(maxYetis, game.getWorld().count(EntityWorld.YETI));
+                maxProjectiles = Math.max(maxProjectiles, game.getWorld().count(EntityWorld.PROJECTILE));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("[HEADLESS] %d ticks in %.2f s (%.0f ticks/s, %.1fx real time)%n",
+                ticks, seconds, ticks / seconds, ticks / seconds / GamePresenter.TICKS_PER_SECOND);
+        System.out.printf("[HEADLESS] difficulty=%s sessions=%d peak yetis=%d peak projectiles=%d%n",
+                difficulty, sessions, maxYetis, maxProjectiles);
+    }
+}
@@ -0,0 +1,56 @@
+package com.lastpenguin.presenter;
+
+/**
+ * The input state seen by one simulation tick.
+ * <p>
+ * {@link InputHandler} is written by the EDT at any moment, so reading it directly could
+ * give a tick a different answer on every call. The presenter instead latches the handler
+ * into a frame once at the start of each tick and reads only the frame. Because the frame
+ * is the complete input of a tick, recording it is enough to replay a session exactly.
+ */
+public final class InputFrame {
+    // --- Button bits ---
+
+    public static final int UP = 1;
+    public static final int DOWN = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int SHOOTING = 1 << 4;
+    public static final int S1 = 1 << 5;
+    public static final int S2 = 1 << 6;
+    public static final int S3 = 1 << 7;
+    public static final int MOUSE_CLICKED = 1 << 8;
+    public static final int PAUSED = 1 << 9;
+    public static final int SURRENDER = 1 << 10;
+    /** Mirrors {@code GameSettings.isUseMouse()}, which the player may toggle mid-session. */
+    public static final int USE_MOUSE = 1 << 11;
+
+    int buttons;
+    int mouseX, mouseY;
+
+    /**
+     * Overwrites this frame with the given state.
+     */
+    public void set(int buttons, int mouseX, int mouseY) {
+        this.buttons = buttons;
+        this.mouseX = mouseX;
+        this.mouseY = mouseY;
+    }
+
+    public int getButtons() { return buttons; }
+    public int getMouseX() { return mouseX; }
+    public int getMouseY() { return mouseY; }
+
+    public boolean isUp() { return (buttons & UP) != 0; }
+    public boolean isDown() { return (buttons & DOWN) != 0; }
+    public boolean isLeft() { return (buttons & LEFT) != 0; }
+    public boolean isRight() { return (buttons & RIGHT) != 0; }
+    public boolean isShooting() { return (buttons & SHOOTING) != 0; }
+    public boolean isS1() { return (buttons & S1) != 0; }
+    public boolean isS2() { return (buttons & S2) != 0; }
+    public boolean isS3() { return (buttons & S3) != 0; }
+    public boolean isMouseClicked() { return (buttons & MOUSE_CLICKED) != 0; }
+    public boolean isPaused() { return (buttons & PAUSED) != 0; }
+    public boolean isSurrender() { return (buttons & SURRENDER) != 0; }
+    public boolean isUseMouse() { return (buttons & USE_MOUSE) != 0; }
+}
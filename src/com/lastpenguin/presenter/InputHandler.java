@@ -14,10 +14,15 @@ import com.lastpenguin.model.GameSettings;
  * allowing the game logic to respond to movement, combat, and menu commands.
  */
 public class InputHandler extends KeyAdapter implements MouseListener, MouseMotionListener {
-    private boolean up, down, left, right, shooting, paused;
-    private boolean s1, s2, s3;
-    private int mouseX, mouseY;
-    private boolean mouseClicked;
+    // Written by the EDT (or a script), read by the simulation thread
+    protected volatile boolean up, down, left, right, shooting, paused;
+    protected volatile boolean s1, s2, s3;
+    protected volatile int mouseX, mouseY;
+    protected volatile boolean mouseClicked;
+    // Set by the pause menu; consumed by the next latched frame
+    private volatile boolean surrenderRequested;
+    // Developer toggles: F3 shows the frame profiler, F4 exports its samples
+    private volatile boolean profilerVisible, profileExportRequested;
     private GameSettings settings;
 
     /**
@@ -46,6 +51,8 @@ public class InputHandler extends KeyAdapter implements MouseListener, MouseMoti
         if (code == KeyEvent.VK_2) s2 = true;
         if (code == KeyEvent.VK_3) s3 = true;
         if (code == KeyEvent.VK_SPACE) paused = !paused;
+        if (code == KeyEvent.VK_F3) profilerVisible = !profilerVisible;
+        if (code == KeyEvent.VK_F4) profileExportRequested = true;
         
         // Support for customized keybindings from settings
         if (settings != null) {
@@ -117,4 +124,43 @@ public class InputHandler extends KeyAdapter implements MouseListener, MouseMoti
     public int getMouseY() { return mouseY; }
     public boolean isMouseClicked() { return mouseClicked; }
     public void setPaused(boolean paused) { this.paused = paused; }
+
+    /**
+     * Asks the simulation to end the session; delivered with the next latched frame.
+     */
+    public void requestSurrender() { surrenderRequested = true; }
+
+    /**
+     * Copies the current input state into the frame read by the next simulation tick.
+     * A pending surrender request is consumed here, so it reaches exactly one tick.
+     */
+    public void latch(InputFrame frame) {
+        int buttons = 0;
+        if (up) buttons |= InputFrame.UP;
+        if (down) buttons |= InputFrame.DOWN;
+        if (left) buttons |= InputFrame.LEFT;
+        if (right) buttons |= InputFrame.RIGHT;
+        if (shooting) buttons |= InputFrame.SHOOTING;
+        if (s1) buttons |= InputFrame.S1;
+        if (s2) buttons |= InputFrame.S2;
+        if (s3) buttons |= InputFrame.S3;
+        if (mouseClicked) buttons |= InputFrame.MOUSE_CLICKED;
+        if (paused) buttons |= InputFrame.PAUSED;
+        if (surrenderRequested) {
+            surrenderRequested = false;
+            buttons |= InputFrame.SURRENDER;
+        }
+        if (settings != null && settings.isUseMouse()) buttons |= InputFrame.USE_MOUSE;
+        frame.set(buttons, mouseX, mouseY);
+    }
+    public boolean isProfilerVisible() { return profilerVisible; }
+
+    /**
+     * Returns whether a frame profile export was requested since the last call, clearing the request.
+     */
+    public boolean consumeProfileExport() {
+        if (!profileExportRequested) return false;
+        profileExportRequested = false;
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.lastpenguin.presenter;
+
+import com.lastpenguin.model.GameSettings;
+import com.lastpenguin.model.Player;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records the latched input of every tick so a session can be replayed exactly with
+ * {@link ReplayInput}.
+ * <p>
+ * File layout (all numbers big-endian):
+ * <pre>
+ * int    magic "LPRP", byte version
+ * long   seed of the session's {@link com.lastpenguin.model.RandomStreams}
+ * UTF    username, int starting bullets, UTF difficulty
+ * long   ticks recorded, int final score, int yetis killed, int missed shots
+ * body   one record per tick whose input differs from the tick before:
+ *          varint number of unchanged ticks preceding it, byte mask of changed fields,
+ *          then varint buttons, zigzag varint mouse x delta, zigzag varint mouse y delta
+ *          (each only if its mask bit is set); a mask of 0 ends the body
+ * </pre>
+ * Ticks are buffered in memory while playing; the file is written once the session ends,
+ * off the simulation thread.
+ */
+public class InputRecorder {
+    static final int MAGIC = 0x4C505250;
+    // Version 2: sessions draw from RandomStreams, so version 1 seeds no longer reproduce
+    // Version 3: projectiles move in the entity movement system at the start of the tick
+    // Version 4: crowded yetis push each other apart
+    static final int VERSION = 4;
+
+    // Mask bits of a tick record
+    static final int CHANGED_BUTTONS = 1;
+    static final int CHANGED_MOUSE_X = 1 << 1;
+    static final int CHANGED_MOUSE_Y = 1 << 2;
+
+    private final long seed;
+    private final String username;
+    private final int startingBullets;
+    private final String difficulty;
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(16 * 1024);
+    private int lastButtons, lastMouseX, lastMouseY;
+    private long unchanged = 0;
+    private long ticks = 0;
+
+    /**
+     * Starts a recording of a session that has not simulated any tick yet.
+     * @param seed The seed the session's random generator was created with.
+     */
+    public InputRecorder(long seed, Player player, GameSettings settings) {
+        this.seed = seed;
+        this.username = player.getUsername();
+        this.startingBullets = player.getRemainingBullets();
+        this.difficulty = settings.getDifficulty();
+    }
+
+    /**
+     * Appends the input of one tick, writing only what changed since the previous tick.
+     */
+    public void record(InputFrame frame) {
+        ticks++;
+        int mask = 0;
+        if (frame.buttons != lastButtons) mask |= CHANGED_BUTTONS;
+        if (frame.mouseX != lastMouseX) mask |= CHANGED_MOUSE_X;
+        if (frame.mouseY != lastMouseY) mask |= CHANGED_MOUSE_Y;
+        if (mask == 0) {
+            unchanged++;
+            return;
+        }
+
+        writeVarLong(body, unchanged);
+        body.write(mask);
+        if ((mask & CHANGED_BUTTONS) != 0) writeVarLong(body, frame.buttons);
+        if ((mask & CHANGED_MOUSE_X) != 0) writeVarLong(body, zigzag(frame.mouseX - lastMouseX));
+        if ((mask & CHANGED_MOUSE_Y) != 0) writeVarLong(body, zigzag(frame.mouseY - lastMouseY));
+        lastButtons = frame.buttons;
+        lastMouseX = frame.mouseX;
+        lastMouseY = frame.mouseY;
+        unchanged = 0;
+    }
+
+    /**
+     * Ends the recording and writes it to a file on a background thread.
+     * The player's final results are stored so a replay can verify it reproduced the session.
+     */
+    public void finish(Player player, Path file) {
+        writeVarLong(body, unchanged);
+        body.write(0);
+        byte[] data = body.toByteArray();
+        long totalTicks = ticks;
+        int score = player.getScore(), kills = player.getYetiKilled(), misses = player.getMissedShots();
+
+        Thread writer = new Thread(() -> {
+            try {
+                if (file.getParent() != null) Files.createDirectories(file.getParent());
+                try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+                    out.writeInt(MAGIC);
+                    out.writeByte(VERSION);
+                    out.writeLong(seed);
+                    out.writeUTF(username);
+                    out.writeInt(startingBullets);
+                    out.writeUTF(difficulty);
+                    out.writeLong(totalTicks);
+                    out.writeInt(score);
+                    out.writeInt(kills);
+                    out.writeInt(misses);
+                    out.write(data);
+                }
+                System.out.println("[REPLAY] " + totalTicks + " tick(s) recorded to " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("Failed to write replay: " + e.getMessage());
+            }
+        }, "replay-writer");
+        // Threads inherit daemon status from the game loop; this one must finish before the JVM exits
+        writer.setDaemon(false);
+        writer.start();
+    }
+
+    private static long zigzag(int v) {
+        return ((long) v << 1) ^ (v >> 31);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+}
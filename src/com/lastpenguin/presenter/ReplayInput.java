@@ -0,0 +1,144 @@
+package com.lastpenguin.presenter;
+
+import com.lastpenguin.model.GameSettings;
+import com.lastpenguin.model.Player;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Input source that plays back a session written by {@link InputRecorder}.
+ * Each latched frame is decoded from the recording instead of read from devices, so a
+ * presenter created with {@link #getSeed()}, {@link #createPlayer()} and
+ * {@link #createSettings()} repeats the recorded session tick for tick.
+ */
+public class ReplayInput extends InputHandler {
+    private final long seed;
+    private final String username;
+    private final int startingBullets;
+    private final String difficulty;
+    private final long totalTicks;
+    private final int finalScore, finalKills, finalMisses;
+
+    private final byte[] data;
+    private int pos;
+    private long ticksPlayed = 0;
+    // Ticks left that repeat the previous frame, or -1 when the next record must be read
+    private long repeat = -1;
+    private int buttons, replayMouseX, replayMouseY;
+
+    private ReplayInput(DataInputStream in, byte[] data) throws IOException {
+        if (in.readInt() != InputRecorder.MAGIC) throw new IOException("Not a replay file");
+        int version = in.readUnsignedByte();
+        if (version != InputRecorder.VERSION) throw new IOException("Unsupported replay version " + version);
+        seed = in.readLong();
+        username = in.readUTF();
+        startingBullets = in.readInt();
+        difficulty = in.readUTF();
+        totalTicks = in.readLong();
+        finalScore = in.readInt();
+        finalKills = in.readInt();
+        finalMisses = in.readInt();
+        this.data = data;
+        this.pos = data.length - in.available();
+    }
+
+    /**
+     * Reads a recording into memory.
+     * @throws IOException If the file cannot be read or is not a replay.
+     */
+    public static ReplayInput load(Path file) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return new ReplayInput(in, data);
+        }
+    }
+
+    /**
+     * Fills the frame with the next recorded tick. Once the recording is exhausted the
+     * last frame repeats.
+     */
+    @Override
+    public void latch(InputFrame frame) {
+        if (ticksPlayed < totalTicks) {
+            if (repeat < 0) repeat = readVarLong();
+            if (repeat > 0) {
+                repeat--;
+            } else {
+                applyRecord();
+                repeat = -1;
+            }
+            ticksPlayed++;
+        }
+        frame.set(buttons, replayMouseX, replayMouseY);
+    }
+
+    private void applyRecord() {
+        int mask = data[pos++] & 0xFF;
+        if ((mask & InputRecorder.CHANGED_BUTTONS) != 0) buttons = (int) readVarLong();
+        if ((mask & InputRecorder.CHANGED_MOUSE_X) != 0) replayMouseX += unzigzag(readVarLong());
+        if ((mask & InputRecorder.CHANGED_MOUSE_Y) != 0) replayMouseY += unzigzag(readVarLong());
+    }
+
+    private long readVarLong() {
+        long v = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = data[pos++] & 0xFF;
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+    }
+
+    private static int unzigzag(long v) {
+        return (int) ((v >>> 1) ^ -(v & 1));
+    }
+
+    /**
+     * Whether every recorded tick has been played back.
+     */
+    public boolean isFinished() { return ticksPlayed >= totalTicks; }
+
+    /**
+     * Creates the player in the state the recorded session started with.
+     */
+    public Player createPlayer() { return new Player(username, startingBullets); }
+
+    /**
+     * Creates settings matching the recorded session. The mouse-control toggle is part of
+     * every frame, so only the difficulty needs restoring.
+     */
+    public GameSettings createSettings() {
+        GameSettings settings = new GameSettings();
+        settings.setDifficulty(difficulty);
+        return settings;
+    }
+
+    /**
+     * Checks whether a player's results match the ones stored with the recording.
+     */
+    public boolean matchesRecording(Player player) {
+        return player.getScore() == finalScore && player.getYetiKilled() == finalKills
+                && player.getMissedShots() == finalMisses;
+    }
+
+    public long getSeed() { return seed; }
+    public long getTotalTicks() { return totalTicks; }
+    public String getDifficulty() { return difficulty; }
+    public int getFinalScore() { return finalScore; }
+    public int getFinalKills() { return finalKills; }
+    public int getFinalMisses() { return finalMisses; }
+
+    // --- Device events are ignored so a stray listener cannot interfere with the playback ---
+
+    @Override public void keyPressed(KeyEvent e) {}
+    @Override public void keyReleased(KeyEvent e) {}
+    @Override public void mousePressed(MouseEvent e) {}
+    @Override public void mouseReleased(MouseEvent e) {}
+    @Override public void mouseMoved(MouseEvent e) {}
+    @Override public void mouseDragged(MouseEvent e) {}
+}
@@ -0,0 +1,45 @@
+package com.lastpenguin.presenter;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Plays back a recorded session headlessly, as fast as the CPU allows.
+ * <p>
+ * Usage: {@code ReplayRunner <file.lprp> [repeat]}. Each pass rebuilds the session from
+ * the recording's seed and input, reports the simulation speed and checks the final
+ * score, kills and misses against the recording, which turns a real play session into a
+ * reproducible workload for comparing tick times across builds.
+ */
+public class ReplayRunner {
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <file.lprp> [repeat]");
+            System.exit(2);
+        }
+        int repeat = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        boolean allMatched = true;
+        for (int pass = 1; pass <= repeat; pass++) {
+            ReplayInput replay = ReplayInput.load(Paths.get(args[0]));
+            GamePresenter game = GamePresenter.headless(replay.createPlayer(), replay.createSettings(), replay, replay.getSeed());
+
+            long start = System.nanoTime();
+            while (!replay.isFinished()) game.update();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            boolean matched = replay.matchesRecording(game.getPlayer());
+            allMatched &= matched;
+            System.out.printf("[REPLAY] pass %d: %d ticks in %.3f s (%.0f ticks/s, %.1f us/tick) difficulty=%s%n",
+                    pass, replay.getTotalTicks(), seconds, replay.getTotalTicks() / seconds,
+                    seconds * 1e6 / replay.getTotalTicks(), replay.getDifficulty());
+            System.out.printf("[REPLAY] score=%d kills=%d misses=%d (recorded %d/%d/%d) -> %s%n",
+                    game.getPlayer().getScore(), game.getPlayer().getYetiKilled(), game.getPlayer().getMissedShots(),
+                    replay.getFinalScore(), replay.getFinalKills(), replay.getFinalMisses(),
+                    matched ? "reproduced" : "DIVERGED");
+        }
+        if (!allMatched) System.exit(1);
+    }
+}
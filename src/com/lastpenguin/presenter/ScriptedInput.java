@@ -0,0 +1,61 @@
+package com.lastpenguin.presenter;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+
+/**
+ * Programmatic replacement for {@link InputHandler}.
+ * Keyboard and mouse events are ignored; movement, shooting, skills and aiming are
+ * set directly by a script, which makes the presenter drivable without a display.
+ */
+public class ScriptedInput extends InputHandler {
+
+    /**
+     * Per-tick behaviour that drives a {@link ScriptedInput}.
+     */
+    public interface Script {
+        /**
+         * Sets the input state for the given tick, before the presenter simulates it.
+         */
+        void apply(long tick, ScriptedInput input, GamePresenter game);
+    }
+
+    /**
+     * Sets the held movement direction; each component is -1, 0 or 1.
+     */
+    public void setMovement(int dx, int dy) {
+        left = dx < 0;
+        right = dx > 0;
+        up = dy < 0;
+        down = dy > 0;
+    }
+
+    public void setShooting(boolean shooting) { this.shooting = shooting; }
+
+    /**
+     * Sets which skill keys are held during the next tick.
+     */
+    public void setSkills(boolean s1, boolean s2, boolean s3) {
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    /**
+     * Moves the virtual mouse cursor and sets the button state.
+     */
+    public void setMouse(int x, int y, boolean pressed) {
+        this.mouseX = x;
+        this.mouseY = y;
+        this.mouseClicked = pressed;
+    }
+
+    // --- Device events are ignored so a stray listener cannot interfere with the script ---
+
+    @Override public void keyPressed(KeyEvent e) {}
+    @Override public void keyReleased(KeyEvent e) {}
+    @Override public void mousePressed(MouseEvent e) {}
+    @Override public void mouseReleased(MouseEvent e) {}
+    @Override public void mouseMoved(MouseEvent e) {}
+    @Override public void mouseDragged(MouseEvent e) {}
+}
@@ -0,0 +1,17 @@
+package com.lastpenguin.presenter;
+
+/**
+ * Sink for the one-shot sound effects triggered by game events.
+ */
+public interface SoundEffects {
+
+    /**
+     * Plays the effect stored under the given file name in the sound assets.
+     */
+    void playEffect(String fileName);
+
+    /**
+     * Sink that discards every effect, used for headless simulation.
+     */
+    SoundEffects NONE = fileName -> {};
+}
@@ -0,0 +1,110 @@
+package com.lastpenguin.presenter;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid used as the collision broad phase.
+ * Entities are registered by an integer id (usually their list index) together with
+ * their bounding box (min corner inclusive, max corner exclusive); a query returns every
+ * id whose box shares at least one cell with the query box. Callers still run the exact overlap test on the returned candidates.
+ * All storage is reused between rebuilds, so clearing and refilling the grid every tick
+ * does not allocate once the buffers have grown to the working-set size.
+ */
+public class SpatialGrid {
+    private final int cellSize;
+    private final int cols, rows;
+
+    private final int[][] cells;
+    private final int[] cellCounts;
+
+    // Per-id stamps used to report each id only once per query
+    private int[] stamps = new int[64];
+    private int stamp = 0;
+
+    private int[] results = new int[64];
+    private int resultCount = 0;
+
+    /**
+     * Creates a grid covering the area from (0, 0) to (width, height).
+     * Boxes outside this area are clamped onto the border cells.
+     * @param cellSize The edge length of a single square cell in pixels.
+     */
+    public SpatialGrid(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        this.cols = (width + cellSize - 1) / cellSize;
+        this.rows = (height + cellSize - 1) / cellSize;
+        this.cells = new int[cols * rows][8];
+        this.cellCounts = new int[cols * rows];
+    }
+
+    /**
+     * Removes every entry while keeping the allocated storage.
+     */
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+    }
+
+    /**
+     * Registers an id in every cell touched by the given box.
+     */
+    public void insert(int id, int minX, int minY, int maxX, int maxY) {
+        int cx0 = col(minX), cx1 = col(maxX - 1);
+        int cy0 = row(minY), cy1 = row(maxY - 1);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int cell = cy * cols + cx;
+                int n = cellCounts[cell];
+                if (n == cells[cell].length) {
+                    cells[cell] = Arrays.copyOf(cells[cell], n * 2);
+                }
+                cells[cell][n] = id;
+                cellCounts[cell] = n + 1;
+            }
+        }
+    }
+
+    /**
+     * Collects the ids of all entries sharing a cell with the given box.
+     * @return The number of candidates, readable through {@link #getResult(int)}.
+     */
+    public int query(int minX, int minY, int maxX, int maxY) {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+        resultCount = 0;
+
+        int cx0 = col(minX), cx1 = col(maxX - 1);
+        int cy0 = row(minY), cy1 = row(maxY - 1);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int cell = cy * cols + cx;
+                int[] ids = cells[cell];
+                for (int i = 0, n = cellCounts[cell]; i < n; i++) {
+                    int id = ids[i];
+                    if (id >= stamps.length) stamps = Arrays.copyOf(stamps, Math.max(id + 1, stamps.length * 2));
+                    if (stamps[id] == stamp) continue;
+                    stamps[id] = stamp;
+                    if (resultCount == results.length) results = Arrays.copyOf(results, resultCount * 2);
+                    results[resultCount++] = id;
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    /**
+     * Returns the i-th candidate id of the most recent query.
+     */
+    public int getResult(int i) { return results[i]; }
+
+    private int col(int x) {
+        int c = Math.floorDiv(x, cellSize);
+        return c < 0 ? 0 : (c >= cols ? cols - 1 : c);
+    }
+
+    private int row(int y) {
+        int r = Math.floorDiv(y, cellSize);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+}
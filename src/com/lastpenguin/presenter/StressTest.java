@@ -0,0 +1,182 @@
+package com.lastpenguin.presenter;
+
+import com.lastpenguin.model.EntityWorld;
+import com.lastpenguin.model.GameSettings;
+import com.lastpenguin.model.Player;
+import com.lastpenguin.view.GamePanel;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Arrays;
+
+/**
+ * Checks the ENDLESS performance contract: {@link WaveDirector#MAX_YETIS} live Yetis plus
+ * their projectiles, simulated and drawn at a steady {@link GamePresenter#TICKS_PER_SECOND} Hz.
+ * <p>
+ * The session is simulated with the scripted bot from {@link HeadlessRunner}, minus
+ * skills, and a player that cannot die, starting at a late wave so the horde fills up
+ * quickly. Yetis push each other apart, so the full horde covers most of the arena
+ * instead of stacking on the player; the report says how many distinct spots it covers.
+ * Once the arena is full it times, for the requested duration, every frame the game
+ * loop would run: one tick followed by the full {@link GamePanel} render into an
+ * 800x600 back buffer. With a screen that buffer is a {@link VolatileImage}, as in the
+ * game, and one pixel is read back after each render so queued GPU work is timed too;
+ * headless it is a software image. The contract holds when the 99th percentile frame
+ * fits in one 60 Hz frame. Presenting the finished image on screen is not included.
+ * The exit code is 0 when the contract holds and 1 otherwise.
+ *
+ * <pre>java -cp bin com.lastpenguin.presenter.StressTest [seconds]</pre>
+ */
+public class StressTest {
+    /** Time allowed for one tick plus one render: a whole 60 Hz frame. */
+    public static final long FRAME_BUDGET_NANOS = 1_000_000_000L / GamePresenter.TICKS_PER_SECOND;
+
+    private static final int START_WAVE = 30;
+    private static final int FULL_ARENA = WaveDirector.MAX_YETIS * 95 / 100;
+    private static final int MIN_WARMUP_TICKS = 60 * GamePresenter.TICKS_PER_SECOND;
+    private static final int MAX_WARMUP_TICKS = 300 * GamePresenter.TICKS_PER_SECOND;
+
+    /** The soak-test bot without skills, so meteors never clear the arena mid-measurement. */
+    private static final ScriptedInput.Script BOT = (tick, input, game) -> {
+        HeadlessRunner.BOT.apply(tick, input, game);
+        input.setSkills(false, false, false);
+    };
+
+    public static void main(String[] args) {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        int measuredTicks = seconds * GamePresenter.TICKS_PER_SECOND;
+
+        GameSettings settings = new GameSettings();
+        settings.setDifficulty(GameSettings.ENDLESS);
+        // Contact and hits are still processed every tick; the player just survives them
+        Player player = new Player("stress", 50) {
+            @Override public void die() { }
+        };
+        ScriptedInput input = new ScriptedInput();
+        GamePresenter game = GamePresenter.headless(player, settings, input, 42L);
+        game.getWaveDirector().setWave(START_WAVE);
+
+        // Fill the arena and give the JIT a minute of play to settle the hot paths
+        long tick = 0;
+        while (tick < MAX_WARMUP_TICKS && (tick < MIN_WARMUP_TICKS || game.getWorld().count(EntityWorld.YETI) < FULL_ARENA)) {
+            BOT.apply(tick++, input, game);
+            game.update();
+        }
+        if (game.getWorld().count(EntityWorld.YETI) < FULL_ARENA) {
+            System.out.printf("[STRESS] arena never filled: %d yetis after %d ticks%n", game.getWorld().count(EntityWorld.YETI), tick);
+            System.exit(1);
+        }
+
+        // Assets come from res/ on the classpath, as in the game
+        GamePanel panel = new GamePanel(e -> { }, e -> { }, e -> { });
+        panel.setPresenter(game);
+        Image frame = createBackBuffer();
+        Graphics2D g = (Graphics2D) frame.getGraphics();
+        BufferedImage readback = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+        Graphics2D sync = readback.createGraphics();
+        System.out.println(frame instanceof VolatileImage
+                ? "[STRESS] rendering into a VolatileImage, accelerated: " + ((VolatileImage) frame).getCapabilities().isAccelerated()
+                : "[STRESS] rendering into a software image (headless)");
+        // Let the JIT compile the render path too before measuring
+        for (int i = 0; i < MIN_WARMUP_TICKS; i++) panel.renderTo(g);
+
+        long[] tickNanos = new long[measuredTicks];
+        long[] renderNanos = new long[measuredTicks];
+        long[] frameNanos = new long[measuredTicks];
+        long yetiSum = 0, projectileSum = 0;
+        int minYetis = Integer.MAX_VALUE, maxProjectiles = 0;
+        for (int i = 0; i < measuredTicks; i++) {
+            BOT.apply(tick++, input, game);
+            long start = System.nanoTime();
+            game.update();
+            long rendered = System.nanoTime();
+            panel.renderTo(g);
+            sync.drawImage(frame, 0, 0, 1, 1, 0, 0, 1, 1, null);
+            long end = System.nanoTime();
+            tickNanos[i] = rendered - start;
+            renderNanos[i] = end - rendered;
+            frameNanos[i] = end - start;
+
+            int yetis = game.getWorld().count(EntityWorld.YETI), projectiles = game.getWorld().count(EntityWorld.PROJECTILE);
+            yetiSum += yetis;
+            projectileSum += projectiles;
+            minYetis = Math.min(minYetis, yetis);
+            maxProjectiles = Math.max(maxProjectiles, projectiles);
+        }
+
+        g.dispose();
+        sync.dispose();
+        long overBudget = 0;
+        for (long t : frameNanos) {
+            if (t > FRAME_BUDGET_NANOS) overBudget++;
+        }
+
+        System.out.printf("[STRESS] %d frames at wave %d: yetis avg %d (min %d), projectiles avg %d (max %d)%n",
+                measuredTicks, game.getWaveDirector().getWave(), yetiSum / measuredTicks, minYetis,
+                projectileSum / measuredTicks, maxProjectiles);
+        System.out.printf("[STRESS] horde spread: %d yetis on %d distinct positions%n",
+                game.getWorld().count(EntityWorld.YETI), distinctYetiPositions(game.getWorld()));
+        printTimes("tick  ", tickNanos);
+        printTimes("render", renderNanos);
+        printTimes("frame ", frameNanos);
+        System.out.printf("[STRESS] %d frame(s) over budget%n", overBudget);
+
+        FrameProfiler profiler = game.getProfiler();
+        StringBuilder phases = new StringBuilder("[STRESS] phase p99 (last window):");
+        for (int phase = 0; phase < FrameProfiler.TICK; phase++) {
+            phases.append(String.format(" %s=%.2fms", FrameProfiler.getPhaseName(phase), profiler.getP99(phase) / 1e6));
+        }
+        System.out.println(phases);
+
+        boolean holds = percentile(frameNanos, 0.99) <= FRAME_BUDGET_NANOS;
+        System.out.printf("[STRESS] contract (%d yetis, tick + render p99 <= %.2f ms per frame): %s%n",
+                WaveDirector.MAX_YETIS, FRAME_BUDGET_NANOS / 1e6, holds ? "HOLDS" : "VIOLATED");
+        System.exit(holds ? 0 : 1);
+    }
+
+    /**
+     * Creates the image frames are rendered into: what the game loop uses when there is a
+     * screen, a plain software image otherwise.
+     */
+    private static Image createBackBuffer() {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleVolatileImage(800, 600);
+        }
+        return new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Counts the distinct spots the live Yetis stand on; a horde stacked on a few spots
+     * would make the render timings meaningless.
+     */
+    private static int distinctYetiPositions(EntityWorld world) {
+        long[] positions = new long[world.count(EntityWorld.YETI)];
+        int n = 0;
+        for (int row = 0; row < world.size(); row++) {
+            if (world.isAlive(row, EntityWorld.YETI)) positions[n++] = (long) world.getX(row) << 32 | (world.getY(row) & 0xFFFFFFFFL);
+        }
+        Arrays.sort(positions, 0, n);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || positions[i] != positions[i - 1]) distinct++;
+        }
+        return distinct;
+    }
+
+    private static void printTimes(String label, long[] nanos) {
+        long total = 0;
+        for (long t : nanos) total += t;
+        System.out.printf("[STRESS] %s mean %.2f ms, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", label,
+                total / 1e6 / nanos.length, percentile(nanos, 0.5) / 1e6, percentile(nanos, 0.99) / 1e6,
+                percentile(nanos, 1.0) / 1e6);
+    }
+
+    private static long percentile(long[] nanos, double p) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p) - 1))];
+    }
+}
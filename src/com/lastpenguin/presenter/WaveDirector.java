@@ -0,0 +1,91 @@
+package com.lastpenguin.presenter;
+
+import com.lastpenguin.model.GameSettings;
+
+/**
+ * Decides when Yetis enter the arena and how fast they are.
+ * <p>
+ * EASY, MEDIUM and HARD spawn one Yeti on a fixed timer, as they always have. ENDLESS
+ * runs in waves of {@link #WAVE_TICKS} ticks: every wave spawns larger batches at shorter
+ * intervals and later waves bring faster Yetis, so the horde grows until it reaches
+ * {@link #MAX_YETIS} live Yetis, the load the engine is specified to sustain at 60 Hz.
+ */
+public class WaveDirector {
+    /** Length of one ENDLESS wave (twenty seconds). */
+    public static final int WAVE_TICKS = 20 * GamePresenter.TICKS_PER_SECOND;
+    /** Most Yetis alive at once in ENDLESS; spawning pauses while the arena is full. */
+    public static final int MAX_YETIS = 2000;
+
+    private final boolean endless;
+    private final int fixedInterval;
+    private final int fixedSpeed;
+    private int timer = 0;
+    private int wave = 1;
+    private int waveTimer = 0;
+
+    /**
+     * Creates the director for a difficulty from {@link GameSettings}.
+     * Unknown values fall back to EASY.
+     */
+    public WaveDirector(String difficulty) {
+        this.endless = GameSettings.ENDLESS.equals(difficulty);
+        this.fixedInterval = GameSettings.HARD.equals(difficulty) ? 80
+                : GameSettings.MEDIUM.equals(difficulty) ? 120 : 200;
+        this.fixedSpeed = GameSettings.HARD.equals(difficulty) ? 3 : 1;
+    }
+
+    /**
+     * Advances the spawn timers by one tick.
+     * @param liveYetis Number of Yetis currently alive.
+     * @return How many Yetis to spawn this tick.
+     */
+    public int update(int liveYetis) {
+        timer++;
+        if (!endless) {
+            if (timer <= fixedInterval) return 0;
+            timer = 0;
+            return 1;
+        }
+
+        if (++waveTimer >= WAVE_TICKS) {
+            waveTimer = 0;
+            wave++;
+        }
+        if (timer < getInterval()) return 0;
+        timer = 0;
+        return Math.max(0, Math.min(getBatchSize(), MAX_YETIS - liveYetis));
+    }
+
+    /**
+     * Ticks between two batches: 80 in the first wave, down to a quarter second.
+     */
+    private int getInterval() {
+        return Math.max(15, 90 - 10 * wave);
+    }
+
+    /**
+     * Yetis per batch; one per wave number, so the spawn rate grows roughly quadratically.
+     */
+    private int getBatchSize() {
+        return wave;
+    }
+
+    /**
+     * Movement speed in pixels per tick for Yetis spawned now.
+     */
+    public int getYetiSpeed() {
+        if (!endless) return fixedSpeed;
+        return wave < 4 ? 1 : wave < 8 ? 2 : 3;
+    }
+
+    /**
+     * Jumps straight to the start of the given wave, e.g. to stress-test a late wave.
+     */
+    public void setWave(int wave) {
+        this.wave = Math.max(1, wave);
+        this.waveTimer = 0;
+    }
+
+    public int getWave() { return wave; }
+    public boolean isEndless() { return endless; }
+}
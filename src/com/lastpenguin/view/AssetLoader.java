@@ -1,22 +1,31 @@
 package com.lastpenguin.view;
 
 import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility for resource management and asset retrieval.
  * Provides streamlined methods for loading images and sprite arrays 
- * from the local resource path.
+ * from the local resource path. The sprite helpers take their source images from
+ * {@link AssetRegistry}, so each file is decoded only once per process.
  */
 public class AssetLoader {
 
     private static final String IMAGE_PATH = "/assets/images/";
     private static final String SOUND_PATH = "/assets/sounds/";
 
+    // Pre-scaled, display-compatible copies keyed by file name and target size
+    private static final Map<String, BufferedImage> scaledCache = new ConcurrentHashMap<>();
+
     /**
      * Loads a single image file from the embedded resources.
      * @param fileName The relative path of the file within the asset directory.
@@ -50,10 +59,10 @@ public class AssetLoader {
         for (String dir : directions) {
             for (String step : steps) {
                 String fileName = "sprites/yeti_" + dir + "_" + step + ".png";
-                BufferedImage img = loadImage(fileName);
+                BufferedImage img = AssetRegistry.getImage(fileName);
                 
                 if (img == null) {
-                    img = loadImage("sprites/yeti_front_balanced.png");
+                    img = AssetRegistry.getImage("sprites/yeti_front_balanced.png");
                 }
 
                 if (img == null) img = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
@@ -63,6 +72,132 @@ public class AssetLoader {
         return sprites;
     }
 
+    // --- Render-Ready Images ---
+
+    /**
+     * Loads an image already scaled to the size it is drawn at, in a display-compatible
+     * format. Drawing it at that size is a plain copy that Java2D can keep in video memory
+     * instead of a per-frame scale. Results are cached per file and size.
+     * @return The prepared image, or null if the file could not be loaded.
+     */
+    public static BufferedImage loadScaled(String fileName, int width, int height) {
+        String key = fileName + "@" + width + "x" + height;
+        BufferedImage cached = scaledCache.get(key);
+        if (cached != null) return cached;
+
+        BufferedImage source = AssetRegistry.getImage(fileName);
+        if (source == null) return null;
+        BufferedImage scaled = toCompatible(source, width, height);
+        scaledCache.put(key, scaled);
+        return scaled;
+    }
+
+    /**
+     * Loads the Yeti animation frames pre-scaled to their draw size.
+     */
+    public static BufferedImage[] loadYetiSprites(int width, int height) {
+        BufferedImage[] sprites = loadYetiSprites();
+        for (int i = 0; i < sprites.length; i++) {
+            sprites[i] = toCompatible(sprites[i], width, height);
+        }
+        return sprites;
+    }
+
+    /**
+     * Slices an evenly spaced sprite sheet into individual frames, each pre-scaled to
+     * the given draw size.
+     * @return Frames indexed as [row][column], or null if the sheet could not be loaded.
+     */
+    public static BufferedImage[][] loadSpriteFrames(String fileName, int rows, int cols, int width, int height) {
+        BufferedImage sheet = AssetRegistry.getImage(fileName);
+        if (sheet == null) return null;
+
+        int fw = sheet.getWidth() / cols;
+        int fh = sheet.getHeight() / rows;
+        BufferedImage[][] frames = new BufferedImage[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                frames[r][c] = toCompatible(sheet.getSubimage(c * fw, r * fh, fw, fh), width, height);
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Pre-renders an image rotated around a pivot at evenly spaced angles.
+     * The image is drawn at (offsetX, offsetY) relative to the pivot with the given size
+     * before rotation, exactly as a translate-rotate-draw sequence would place it.
+     * @param frameCount The number of angles covering a full turn.
+     * @return The rotated frames, or null if the file could not be loaded.
+     */
+    public static RotatedSprite loadRotatedFrames(String fileName, int frameCount, int offsetX, int offsetY,
+            int width, int height) {
+        BufferedImage source = AssetRegistry.getImage(fileName);
+        if (source == null) return null;
+
+        BufferedImage[] frames = new BufferedImage[frameCount];
+        int[] originX = new int[frameCount];
+        int[] originY = new int[frameCount];
+        double[] cornersX = { offsetX, offsetX + width, offsetX + width, offsetX };
+        double[] cornersY = { offsetY, offsetY, offsetY + height, offsetY + height };
+
+        for (int i = 0; i < frameCount; i++) {
+            double angle = i * 2 * Math.PI / frameCount;
+            double cos = Math.cos(angle), sin = Math.sin(angle);
+
+            // Bounding box of the rotated rectangle, relative to the pivot
+            double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+            double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+            for (int c = 0; c < 4; c++) {
+                double rx = cornersX[c] * cos - cornersY[c] * sin;
+                double ry = cornersX[c] * sin + cornersY[c] * cos;
+                minX = Math.min(minX, rx);
+                minY = Math.min(minY, ry);
+                maxX = Math.max(maxX, rx);
+                maxY = Math.max(maxY, ry);
+            }
+            originX[i] = (int) Math.floor(minX);
+            originY[i] = (int) Math.floor(minY);
+            int w = (int) Math.ceil(maxX) - originX[i];
+            int h = (int) Math.ceil(maxY) - originY[i];
+
+            BufferedImage frame = createCompatible(Math.max(1, w), Math.max(1, h));
+            Graphics2D g = frame.createGraphics();
+            g.translate(-originX[i], -originY[i]);
+            g.rotate(angle);
+            g.drawImage(source, offsetX, offsetY, width, height, null);
+            g.dispose();
+            frames[i] = frame;
+        }
+        return new RotatedSprite(frames, originX, originY);
+    }
+
+    /**
+     * Copies an image into a new display-compatible image of the given size.
+     */
+    public static BufferedImage toCompatible(BufferedImage source, int width, int height) {
+        BufferedImage copy = createCompatible(width, height);
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return copy;
+    }
+
+    /**
+     * Creates a translucent image in the screen's native format when that format uses
+     * premultiplied alpha, and in premultiplied ARGB otherwise (including headless runs).
+     */
+    private static BufferedImage createCompatible(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            if (gc.getColorModel(Transparency.TRANSLUCENT).isAlphaPremultiplied()) {
+                return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+            }
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
     /**
      * Retrieves an input stream for audio files.
      */
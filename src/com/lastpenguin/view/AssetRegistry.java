@@ -0,0 +1,138 @@
+package com.lastpenguin.view;
+
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide registry of decoded assets.
+ * <p>
+ * {@link #preloadAll()} decodes every image, the custom font and all sound effects
+ * concurrently on a small worker pool while the loading screen is up, then prepares
+ * the game's render-ready sprites. Every panel afterwards reads from memory, so
+ * opening the menu or restarting a session never decodes a file again. Each asset is
+ * held as a future: asking for one that is still loading waits for just that asset.
+ */
+public final class AssetRegistry {
+    private static final String FONT_PATH = "/assets/fonts/icy_font.ttf";
+
+    /** Every image shipped in /assets/images/, decoded up front by {@link #preloadAll()}. */
+    private static final String[] IMAGES = {
+        "environment/arena.png", "environment/lubang.png", "environment/obs_ice_rock.png",
+        "environment/obs_ice_spike.png", "environment/obs_snow_mound.png",
+        "projectiles/meteor.png", "projectiles/snowball_giant.png", "projectiles/snowball_p.png",
+        "projectiles/snowball_y.png",
+        "sprites/penguin.png", "sprites/yeti_die.png",
+        "sprites/yeti_front_left.png", "sprites/yeti_front_balanced.png", "sprites/yeti_front_right.png",
+        "sprites/yeti_left_left.png", "sprites/yeti_left_balanced.png", "sprites/yeti_left_right.png",
+        "sprites/yeti_right_left.png", "sprites/yeti_right_balanced.png", "sprites/yeti_right_right.png",
+        "sprites/yeti_back_left.png", "sprites/yeti_back_balanced.png", "sprites/yeti_back_right.png",
+        "ui/game_over.png", "ui/main_menu_bg.png", "ui/pause_bg.png", "ui/player_bar.png",
+        "ui/settings_bg.png", "ui/skill1.png", "ui/skill2.png", "ui/skill3.png",
+        "vfx/aim_arrow.png", "vfx/buff_skill1.png", "vfx/footstep.png", "vfx/meteor_target.png"
+    };
+
+    private static final ExecutorService pool = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())), r -> {
+                Thread t = new Thread(r, "asset-loader");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private static final Map<String, CompletableFuture<BufferedImage>> images = new ConcurrentHashMap<>();
+    private static final CompletableFuture<Font> font = new CompletableFuture<>();
+    private static boolean fontRequested = false;
+    private static CompletableFuture<Void> loading;
+
+    // Progress counters for the loading screen
+    private static final AtomicInteger totalTasks = new AtomicInteger();
+    private static final AtomicInteger doneTasks = new AtomicInteger();
+
+    private AssetRegistry() {}
+
+    /**
+     * Starts decoding every asset in the background. Safe to call more than once.
+     * @return A future completing once all assets, including the prepared game sprites, are ready.
+     */
+    public static synchronized CompletableFuture<Void> preloadAll() {
+        if (loading != null) return loading;
+
+        String[] effects = SoundBank.effectNames();
+        // Images, sounds, the font and the final sprite preparation
+        totalTasks.set(IMAGES.length + effects.length + 2);
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[IMAGES.length + effects.length + 1];
+        int n = 0;
+        for (String name : IMAGES) tasks[n++] = image(name).whenComplete((img, e) -> doneTasks.incrementAndGet());
+        for (String name : effects) {
+            tasks[n++] = CompletableFuture.runAsync(() -> SoundBank.get(name), pool)
+                    .whenComplete((v, e) -> doneTasks.incrementAndGet());
+        }
+        tasks[n] = loadFont().whenComplete((f, e) -> doneTasks.incrementAndGet());
+
+        // Scaling and slicing needs the decoded images, so it runs once they are all in
+        loading = CompletableFuture.allOf(tasks)
+                .thenRunAsync(GameAssets::get, pool)
+                .whenComplete((v, e) -> {
+                    doneTasks.incrementAndGet();
+                    if (e != null) System.err.println("Asset preparation failed: " + e.getMessage());
+                });
+        return loading;
+    }
+
+    /**
+     * Returns the decoded image, waiting for it if it is still loading.
+     * Images outside the preload list are decoded on first request.
+     * @param fileName The path relative to the image asset directory.
+     * @return The image, or null if it could not be loaded.
+     */
+    public static BufferedImage getImage(String fileName) {
+        return image(fileName).join();
+    }
+
+    /**
+     * Returns the custom game font at its base size of 18pt, or null if it could not be
+     * loaded so callers can apply their own fallback.
+     */
+    public static Font getFont() {
+        return loadFont().join();
+    }
+
+    /**
+     * Fraction of preload work finished so far, from 0 to 1.
+     */
+    public static float getProgress() {
+        int total = totalTasks.get();
+        return total == 0 ? 0f : Math.min(1f, doneTasks.get() / (float) total);
+    }
+
+    private static CompletableFuture<BufferedImage> image(String fileName) {
+        return images.computeIfAbsent(fileName,
+                name -> CompletableFuture.supplyAsync(() -> AssetLoader.loadImage(name), pool));
+    }
+
+    private static CompletableFuture<Font> loadFont() {
+        synchronized (font) {
+            if (fontRequested) return font;
+            fontRequested = true;
+        }
+        CompletableFuture.runAsync(() -> {
+            try (InputStream is = AssetRegistry.class.getResourceAsStream(FONT_PATH)) {
+                Font f = Font.createFont(Font.TRUETYPE_FONT, is).deriveFont(18f);
+                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(f);
+                font.complete(f);
+            } catch (Exception e) {
+                System.err.println("Failed to load custom font: " + e.getMessage());
+                font.complete(null);
+            }
+        }, pool);
+        return font;
+    }
+}
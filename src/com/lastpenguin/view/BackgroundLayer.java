@@ -0,0 +1,105 @@
+package com.lastpenguin.view;
+
+import com.lastpenguin.model.Obstacle;
+import com.lastpenguin.model.ObstacleListener;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * The static part of the game scene: the arena floor, obstacles with their HP labels
+ * and meteor holes, composited once into an opaque cached image.
+ * <p>
+ * The layer listens for obstacle events from the presenter and only re-composites after
+ * something changed, so an ordinary frame starts with a single unscaled copy of the cache.
+ */
+public class BackgroundLayer implements ObstacleListener {
+    private static final int WIDTH = 800, HEIGHT = 600;
+    // Obstacle sprites are drawn larger than their collision box
+    private static final int PADDING = 15;
+
+    private final BufferedImage arenaImg, lubangImg, rockImg, spikeImg;
+    private final GlyphAtlas hpText, hpShadow;
+    private BufferedImage cache;
+    // Written by the simulation thread and read by the renderer, both under the game state lock
+    private boolean dirty = true;
+
+    BackgroundLayer(GameAssets assets) {
+        arenaImg = assets.arena;
+        lubangImg = assets.hole;
+        rockImg = assets.rock;
+        spikeImg = assets.spike;
+        hpText = assets.hpText;
+        hpShadow = assets.hpShadow;
+    }
+
+    @Override
+    public void obstacleChanged(Obstacle obstacle) {
+        dirty = true;
+    }
+
+    /**
+     * Forces the next {@link #draw} to re-composite the layer, e.g. after switching sessions.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Draws the layer at the origin, re-compositing it first if an obstacle changed.
+     * Callers must hold the game state lock so the obstacle list stays consistent.
+     */
+    public void draw(Graphics g, List<Obstacle> obstacles) {
+        if (cache == null) {
+            cache = createCache();
+            dirty = true;
+        }
+        if (dirty) {
+            Graphics2D cg = cache.createGraphics();
+            try {
+                compose(cg, obstacles);
+            } finally {
+                cg.dispose();
+            }
+            dirty = false;
+        }
+        g.drawImage(cache, 0, 0, null);
+    }
+
+    private static BufferedImage createCache() {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(WIDTH, HEIGHT, Transparency.OPAQUE);
+        }
+        return new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private void compose(Graphics g, List<Obstacle> obstacles) {
+        if (arenaImg != null) {
+            g.drawImage(arenaImg, 0, 0, null);
+        } else {
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, WIDTH, HEIGHT);
+        }
+
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle o = obstacles.get(i);
+            if (o.isHole()) {
+                g.drawImage(lubangImg, o.getX(), o.getY(), o.getWidth(), o.getHeight(), null);
+            } else {
+                BufferedImage currentImg = (o.getHp() > 15) ? rockImg : spikeImg;
+                g.drawImage(currentImg, o.getX() - PADDING, o.getY() - PADDING, o.getWidth() + (PADDING * 2),
+                        o.getHeight() + (PADDING * 2), null);
+
+                int hp = o.getHp();
+                int textX = o.getX() + (o.getWidth() - hpText.intWidth(hp)) / 2;
+                int textY = o.getY() + (o.getHeight() + hpText.getAscent()) / 2;
+
+                hpShadow.drawInt(g, hp, textX + 1, textY + 1);
+                hpText.drawInt(g, hp, textX, textY);
+            }
+        }
+    }
+}
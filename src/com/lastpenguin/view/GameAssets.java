@@ -0,0 +1,66 @@
+package com.lastpenguin.view;
+
+import com.lastpenguin.presenter.GamePresenter;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.image.BufferedImage;
+
+/**
+ * Render-ready sprites for the game screen, prepared once per process.
+ * Every {@link GamePanel}, including the ones built on restart, shares this set
+ * instead of scaling and slicing its own copies.
+ */
+final class GameAssets {
+    private static GameAssets instance;
+
+    final BufferedImage arena, hole, rock, spike;
+    final BufferedImage[][] penguinFrames;
+    final BufferedImage[] yetiSprites;
+    final BufferedImage pauseBg, gameOverBg;
+    final BufferedImage ballPlayer, ballYeti, ballGiant, ballIcon;
+    final BufferedImage meteor, meteorTarget, footstep;
+    final BufferedImage playerBar, skill1, skill2, skill3;
+    final RotatedSprite aimArrow;
+    // The aura pulses in size every frame, so it stays unscaled
+    final BufferedImage buffSkill1;
+    // Obstacle HP labels and their drop shadow
+    final GlyphAtlas hpText, hpShadow;
+
+    /**
+     * Returns the shared sprite set, preparing it on first use.
+     */
+    static synchronized GameAssets get() {
+        if (instance == null) instance = new GameAssets();
+        return instance;
+    }
+
+    private GameAssets() {
+        int padded = GamePresenter.OBSTACLE_SIZE + 30;
+        arena = AssetLoader.loadScaled("environment/arena.png", 800, 600);
+        hole = AssetLoader.loadScaled("environment/lubang.png", GamePresenter.HOLE_WIDTH, GamePresenter.HOLE_HEIGHT);
+        rock = AssetLoader.loadScaled("environment/obs_ice_rock.png", padded, padded);
+        spike = AssetLoader.loadScaled("environment/obs_ice_spike.png", padded, padded);
+        penguinFrames = AssetLoader.loadSpriteFrames("sprites/penguin.png", 4, 3, 50, 50);
+        yetiSprites = AssetLoader.loadYetiSprites(75, 75);
+        pauseBg = AssetLoader.loadScaled("ui/pause_bg.png", 520, 650);
+        gameOverBg = AssetLoader.loadScaled("ui/game_over.png", 800, 600);
+        ballPlayer = AssetLoader.loadScaled("projectiles/snowball_p.png", 15, 15);
+        ballIcon = AssetLoader.loadScaled("projectiles/snowball_p.png", 12, 12);
+        ballYeti = AssetLoader.loadScaled("projectiles/snowball_y.png", 20, 20);
+        ballGiant = AssetLoader.loadScaled("projectiles/snowball_giant.png", 80, 80);
+        meteor = AssetLoader.loadScaled("projectiles/meteor.png", 80, 80);
+        meteorTarget = AssetLoader.loadScaled("vfx/meteor_target.png", 80, 80);
+        footstep = AssetLoader.loadScaled("vfx/footstep.png", 18, 12);
+        playerBar = AssetLoader.loadScaled("ui/player_bar.png", 200, 150);
+        skill1 = AssetLoader.loadScaled("ui/skill1.png", 80, 80);
+        skill2 = AssetLoader.loadScaled("ui/skill2.png", 80, 80);
+        skill3 = AssetLoader.loadScaled("ui/skill3.png", 80, 80);
+        // 64 directions (about 5.6 degrees apart), placed 35px ahead of the player's center
+        aimArrow = AssetLoader.loadRotatedFrames("vfx/aim_arrow.png", 64, 35, -15, 30, 30);
+        buffSkill1 = AssetRegistry.getImage("vfx/buff_skill1.png");
+
+        Font hpFont = new Font("Arial", Font.BOLD, 14);
+        hpText = GlyphAtlas.get(hpFont, Color.WHITE, false);
+        hpShadow = GlyphAtlas.get(hpFont, new Color(0, 0, 0, 150), false);
+    }
+}
@@ -1,13 +1,17 @@
 package com.lastpenguin.view;
 
 import com.lastpenguin.model.*;
+import com.lastpenguin.presenter.FrameProfiler;
 import com.lastpenguin.presenter.GamePresenter;
+import com.lastpenguin.presenter.GameView;
 import com.lastpenguin.presenter.InputHandler;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
+import java.awt.event.HierarchyEvent;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 
 /**
  * The primary graphical interface for the game session.
@@ -15,13 +19,30 @@ import java.awt.image.BufferedImage;
  * obstacles,
  * and UI overlays for pause and game-over states.
  */
-public class GamePanel extends JPanel {
+public class GamePanel extends JPanel implements GameView {
+    /**
+     * Active rendering draws each frame from the game loop into a VolatileImage and presents
+     * it directly. Set {@code -Dlastpenguin.render=passive} to fall back to Swing repaints.
+     */
+    private static final boolean ACTIVE_RENDERING = !"passive".equalsIgnoreCase(System.getProperty("lastpenguin.render"))
+            && !GraphicsEnvironment.isHeadless();
+
     private GamePresenter presenter;
+    private VolatileImage backBuffer;
+    private boolean activeRenderingFailed = false;
+    // Swing state the game loop needs, published from the EDT so renderFrame never queries Swing
+    private volatile boolean showing, overlayVisible;
+    private volatile GraphicsConfiguration graphicsConfig;
     private HUD hud = new HUD();
-    private BufferedImage arenaImg, penguinSheet, lubangImg, rockImg, spikeImg;
-    private BufferedImage ballPImg, ballYImg, ballGiantImg;
-    private BufferedImage meteorImg, targetImg;
-    private BufferedImage playerBarImg, skill1Img, skill2Img, skill3Img, aimArrowImg;
+    private ProfilerOverlay profilerOverlay = new ProfilerOverlay();
+    private BackgroundLayer background;
+    private ParticleRenderer particleRenderer;
+    private EntityRenderer entityRenderer;
+    // Images are pre-scaled to their draw sizes, so the sized drawImage calls below are plain copies
+    private BufferedImage[][] penguinFrames;
+    private BufferedImage ballIconImg, targetImg;
+    private BufferedImage playerBarImg, skill1Img, skill2Img, skill3Img;
+    private RotatedSprite aimArrow;
     private BufferedImage buffSkill1Vfx;
     private Image pauseBgImage;
     private Image gameOverBgImage;
@@ -31,7 +52,6 @@ public class GamePanel extends JPanel {
     private JPanel gameOverMenu;
     private JLabel lblPauseStats;
     private JLabel lblGameOverStats;
-    private BufferedImage[] yetiSprites;
     private Sound soundManager = new Sound();
 
     public GamePanel(ActionListener quitAction, ActionListener settingsAction, ActionListener restartAction) {
@@ -43,6 +63,26 @@ public class GamePanel extends JPanel {
 
         // Initialize UI components for navigation and game state feedback
         setupUI(quitAction, settingsAction, restartAction);
+
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) showing = isShowing();
+        });
+        // Fired when the panel is first realized and whenever it moves to another screen
+        addPropertyChangeListener("graphicsConfiguration", e -> graphicsConfig = getGraphicsConfiguration());
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        graphicsConfig = getGraphicsConfiguration();
+        showing = isShowing();
+    }
+
+    @Override
+    public void removeNotify() {
+        showing = false;
+        graphicsConfig = null;
+        super.removeNotify();
     }
 
     /**
@@ -151,6 +191,18 @@ public class GamePanel extends JPanel {
         return btn;
     }
 
+    @Override
+    public void bindInput(InputHandler input) {
+        addKeyListener(input);
+        addMouseListener(input);
+        addMouseMotionListener(input);
+    }
+
+    @Override
+    public void onPauseStateChanged(boolean paused) {
+        SwingUtilities.invokeLater(() -> updatePauseUI(paused));
+    }
+
     /**
      * Toggles the visibility of the Pause or Game Over menus based on game state.
      */
@@ -163,6 +215,7 @@ public class GamePanel extends JPanel {
                         "<html><div style='text-align: center;'>FINAL SCORE<br>" + p.getScore() + "</div></html>");
                 gameOverMenu.setVisible(true);
             }
+            overlayVisible = true;
             return;
         }
         if (isPaused) {
@@ -177,42 +230,38 @@ public class GamePanel extends JPanel {
         } else {
             pauseMenu.setVisible(false);
         }
+        overlayVisible = pauseMenu.isVisible() || gameOverMenu.isVisible();
     }
 
     /**
-     * Loads required image assets and custom fonts from the resources directory.
+     * Takes the shared, already prepared image assets and custom font from the registry.
      */
     private void loadAssets() {
-        arenaImg = AssetLoader.loadImage("environment/arena.png");
-        lubangImg = AssetLoader.loadImage("environment/lubang.png");
-        rockImg = AssetLoader.loadImage("environment/obs_ice_rock.png");
-        spikeImg = AssetLoader.loadImage("environment/obs_ice_spike.png");
-        penguinSheet = AssetLoader.loadImage("sprites/penguin.png");
-        yetiSprites = AssetLoader.loadYetiSprites();
-        pauseBgImage = AssetLoader.loadImage("ui/pause_bg.png");
-        gameOverBgImage = AssetLoader.loadImage("ui/game_over.png");
-        ballPImg = AssetLoader.loadImage("projectiles/snowball_p.png");
-        ballYImg = AssetLoader.loadImage("projectiles/snowball_y.png");
-        ballGiantImg = AssetLoader.loadImage("projectiles/snowball_giant.png");
-        meteorImg = AssetLoader.loadImage("projectiles/meteor.png");
-        targetImg = AssetLoader.loadImage("vfx/meteor_target.png");
-        playerBarImg = AssetLoader.loadImage("ui/player_bar.png");
-        skill1Img = AssetLoader.loadImage("ui/skill1.png");
-        skill2Img = AssetLoader.loadImage("ui/skill2.png");
-        skill3Img = AssetLoader.loadImage("ui/skill3.png");
-        aimArrowImg = AssetLoader.loadImage("vfx/aim_arrow.png");
-        buffSkill1Vfx = AssetLoader.loadImage("vfx/buff_skill1.png");
-        try {
-            customFont = Font
-                    .createFont(Font.TRUETYPE_FONT, getClass().getResourceAsStream("/assets/fonts/icy_font.ttf"))
-                    .deriveFont(18f);
-        } catch (Exception e) {
-            customFont = new Font("Arial", Font.BOLD, 18);
-        }
+        GameAssets assets = GameAssets.get();
+        background = new BackgroundLayer(assets);
+        particleRenderer = new ParticleRenderer(assets.footstep);
+        entityRenderer = new EntityRenderer(assets);
+        penguinFrames = assets.penguinFrames;
+        pauseBgImage = assets.pauseBg;
+        gameOverBgImage = assets.gameOverBg;
+        ballIconImg = assets.ballIcon;
+        targetImg = assets.meteorTarget;
+        playerBarImg = assets.playerBar;
+        skill1Img = assets.skill1;
+        skill2Img = assets.skill2;
+        skill3Img = assets.skill3;
+        aimArrow = assets.aimArrow;
+        buffSkill1Vfx = assets.buffSkill1;
+
+        Font baseFont = AssetRegistry.getFont();
+        customFont = baseFont != null ? baseFont : new Font("Arial", Font.BOLD, 18);
     }
 
     public void setPresenter(GamePresenter p) {
         this.presenter = p;
+        // Obstacle events re-composite the cached background only when something changed
+        p.setObstacleListener(background);
+        background.invalidate();
     }
 
     /**
@@ -225,63 +274,122 @@ public class GamePanel extends JPanel {
         super.paintComponent(g);
         if (presenter == null)
             return;
-        Graphics2D g2 = (Graphics2D) g;
+        // The simulation runs on its own thread; hold its lock so the entity lists stay consistent
+        synchronized (presenter.getStateLock()) {
+            renderGame(g);
+        }
+    }
 
-        if (arenaImg != null)
-            g.drawImage(arenaImg, 0, 0, 800, 600, null);
-
-        // Rendering environmental obstacles
-        for (Obstacle o : presenter.getObstacles()) {
-            if (o.isHole()) {
-                g.drawImage(lubangImg, o.getX(), o.getY(), o.getWidth(), o.getHeight(), null);
-            } else {
-                BufferedImage currentImg = (o.getHp() > 15) ? rockImg : spikeImg;
-                int padding = 15;
-                g.drawImage(currentImg, o.getX() - padding, o.getY() - padding, o.getWidth() + (padding * 2),
-                        o.getHeight() + (padding * 2), null);
-
-                g.setColor(Color.WHITE);
-                g.setFont(new Font("Arial", Font.BOLD, 14));
-                String hpText = String.valueOf(o.getHp());
-                FontMetrics fm = g.getFontMetrics();
-                int textX = o.getX() + (o.getWidth() - fm.stringWidth(hpText)) / 2;
-                int textY = o.getY() + (o.getHeight() + fm.getAscent()) / 2;
-
-                g.setColor(new Color(0, 0, 0, 150));
-                g.drawString(hpText, textX + 1, textY + 1);
-                g.setColor(Color.WHITE);
-                g.drawString(hpText, textX, textY);
-            }
+    /**
+     * Draws the current frame onto the given graphics, such as an offscreen image, the
+     * same way the game loop draws into its back buffer. Lets headless tools time the
+     * render path; needs a presenter.
+     */
+    public void renderTo(Graphics g) {
+        synchronized (presenter.getStateLock()) {
+            renderGame(g);
         }
+    }
+
+    /**
+     * Presents a new frame. Called from the game loop thread after each simulation pass.
+     * Renders actively into the VolatileImage back buffer when possible; while a Swing
+     * overlay (pause or game over) is showing, or if the accelerated path is unavailable,
+     * it falls back to a regular {@link #repaint()} so the overlay components get painted.
+     * Visibility and the screen configuration are read from fields the EDT keeps current.
+     */
+    @Override
+    public void renderFrame() {
+        if (!ACTIVE_RENDERING || activeRenderingFailed || presenter == null || !showing || overlayVisible) {
+            repaint();
+            return;
+        }
+        GraphicsConfiguration gc = graphicsConfig;
+        if (gc == null) {
+            repaint();
+            return;
+        }
+
+        try {
+            do {
+                // Recreate the back buffer if it was never created or no longer matches the screen
+                if (backBuffer == null || backBuffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                    if (backBuffer != null) backBuffer.flush();
+                    backBuffer = gc.createCompatibleVolatileImage(800, 600);
+                }
+
+                Graphics2D g = backBuffer.createGraphics();
+                try {
+                    // The background layer is opaque and covers the whole frame, so no clear is needed
+                    synchronized (presenter.getStateLock()) {
+                        renderGame(g);
+                    }
+                } finally {
+                    g.dispose();
+                }
+
+                // Explicit present straight to the panel, bypassing the RepaintManager
+                Graphics screen = getGraphics();
+                if (screen == null) {
+                    repaint();
+                    return;
+                }
+                try {
+                    screen.drawImage(backBuffer, 0, 0, null);
+                } finally {
+                    screen.dispose();
+                }
+                Toolkit.getDefaultToolkit().sync();
+            } while (backBuffer.contentsLost());
+        } catch (RuntimeException e) {
+            // Some pipelines refuse volatile images; stay on the passive path from here on
+            System.err.println("Active rendering disabled: " + e.getMessage());
+            activeRenderingFailed = true;
+            repaint();
+        }
+    }
+
+    /**
+     * Linearly interpolates a coordinate between the previous and current tick.
+     */
+    private static int lerp(int prev, int cur, float alpha) {
+        return prev + Math.round((cur - prev) * alpha);
+    }
+
+    /**
+     * Draws one frame of the game world, interpolated between the last two simulation ticks.
+     */
+    private void renderGame(Graphics g) {
+        long paintStart = System.nanoTime();
+        FrameProfiler profiler = presenter.getProfiler();
+        Graphics2D g2 = (Graphics2D) g;
+        float alpha = presenter.getInterpolation();
+
+        // Arena, obstacles and holes come from one cached layer
+        background.draw(g, presenter.getObstacles());
+
+        // Footprints lie on the ground under everything else
+        ParticleSystem particles = presenter.getParticles();
+        particleRenderer.prepare(particles);
+        particleRenderer.drawGround(g2, particles);
 
         // Rendering special ability targeting and effects
         if (presenter.isTargetingMeteor()) {
             g.drawImage(targetImg, presenter.getInput().getMouseX() - 40, presenter.getInput().getMouseY() - 40, 80, 80,
                     null);
         }
-        for (Meteor m : presenter.getActiveMeteors()) {
-            g.drawImage(meteorImg, m.getX(), m.getY(), 80, 80, null);
-        }
 
-        // Rendering all active projectiles
-        for (Projectile p : presenter.getProjectiles()) {
-            BufferedImage cb = p.isPiercing() ? ballGiantImg
-                    : (p.getOwner().equals(Projectile.YETI_TYPE) ? ballYImg : ballPImg);
-            int sz = p.isPiercing() ? 80 : (p.getOwner().equals(Projectile.YETI_TYPE) ? 20 : 15);
-            g.drawImage(cb, p.getX(), p.getY(), sz, sz, null);
-        }
+        // Meteors, snowballs and Yetis, layered bottom to top
+        entityRenderer.draw(g, presenter.getWorld(), alpha);
 
-        // Rendering enemy units
-        for (Yeti y : presenter.getYetis()) {
-            int idx = y.getSpriteIndex();
-            if (yetiSprites != null && idx < yetiSprites.length) {
-                g.drawImage(yetiSprites[idx], y.getX(), y.getY(), 75, 75, null);
-            }
-        }
+        // Snow, ice and ember particles fly over the enemies
+        particleRenderer.drawAir(g2, particles, alpha);
 
         // Rendering player character and associated visual effects
         if (presenter.getPlayer().isAlive()) {
             Player p = presenter.getPlayer();
+            int playerX = lerp(p.getPrevX(), p.getX(), alpha);
+            int playerY = lerp(p.getPrevY(), p.getY(), alpha);
 
             if (p.isGhost()) {
                 g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
@@ -290,8 +398,8 @@ public class GamePanel extends JPanel {
             // Skill 1 aura effect
             if (p.isGiantBuffActive() && buffSkill1Vfx != null) {
                 int buffSize = 110;
-                int bx = p.getX() + 25 - (buffSize / 2);
-                int by = p.getY() + 25 - (buffSize / 2);
+                int bx = playerX + 25 - (buffSize / 2);
+                int by = playerY + 25 - (buffSize / 2);
 
                 float pulse = (float) Math.sin(System.currentTimeMillis() * 0.005) * 5;
                 g2.drawImage(buffSkill1Vfx, (int) (bx - pulse / 2), (int) (by - pulse / 2), (int) (buffSize + pulse),
@@ -299,36 +407,39 @@ public class GamePanel extends JPanel {
             }
 
             // Target indicator arrow
-            if (aimArrowImg != null) {
-                int px = p.getX() + 25;
-                int py = p.getY() + 25;
+            if (aimArrow != null) {
+                int px = playerX + 25;
+                int py = playerY + 25;
                 double angle = Math.atan2(presenter.getInput().getMouseY() - py, presenter.getInput().getMouseX() - px);
-                Graphics2D gA = (Graphics2D) g2.create();
-                gA.translate(px, py);
-                gA.rotate(angle);
-                gA.drawImage(aimArrowImg, 35, -15, 30, 30, null);
-                gA.dispose();
+                aimArrow.draw(g2, px, py, angle);
             }
 
-            drawPenguin(g);
+            drawPenguin(g, playerX, playerY);
             g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
         }
 
         // Rendering HUD and screen dimming for non-active states
-        hud.draw(g, presenter.getPlayer(), customFont, playerBarImg, skill1Img, skill2Img, skill3Img, ballPImg);
+        long hudStart = System.nanoTime();
+        hud.draw(g, presenter.getPlayer(), customFont, playerBarImg, skill1Img, skill2Img, skill3Img, ballIconImg);
+        profiler.mark(FrameProfiler.HUD, hudStart);
 
         if (presenter.getInput().isPaused() || !presenter.getPlayer().isAlive()) {
             g.setColor(new Color(0, 0, 0, 150));
             g.fillRect(0, 0, 800, 600);
         }
+        profiler.mark(FrameProfiler.PAINT, paintStart);
+
+        if (presenter.getInput().isProfilerVisible()) {
+            profilerOverlay.draw(g, profiler);
+        }
     }
 
     /**
-     * Extracts and draws the appropriate frame from the player's sprite sheet
-     * based on movement direction and animation step.
+     * Draws the pre-sliced frame of the player's sprite sheet matching the
+     * movement direction and animation step.
      */
-    private void drawPenguin(Graphics g) {
-        if (penguinSheet == null)
+    private void drawPenguin(Graphics g, int x, int y) {
+        if (penguinFrames == null)
             return;
         int row = 0;
         InputHandler in = presenter.getInput();
@@ -345,9 +456,6 @@ public class GamePanel extends JPanel {
             spriteNum = (spriteNum + 1) % 3;
             spriteCounter = 0;
         }
-        int fw = penguinSheet.getWidth() / 3;
-        int fh = penguinSheet.getHeight() / 4;
-        BufferedImage sub = penguinSheet.getSubimage(spriteNum * fw, row * fh, fw, fh);
-        g.drawImage(sub, presenter.getPlayer().getX(), presenter.getPlayer().getY(), 50, 50, null);
+        g.drawImage(penguinFrames[row][spriteNum], x, y, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.lastpenguin.view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bitmap text renderer for text drawn every frame.
+ * <p>
+ * All printable ASCII characters of one font, size and color are rasterized once into
+ * a single atlas image; drawing a string is then a series of unscaled sub-image copies.
+ * Numbers can be drawn straight from an {@code int}, so per-frame labels like scores
+ * and cooldowns need no font derivation, no metrics lookup and no String allocation.
+ * Characters outside the atlas fall back to regular text rendering.
+ */
+public class GlyphAtlas {
+    private static final char FIRST = 32, LAST = 126;
+
+    private static final Map<String, GlyphAtlas> cache = new ConcurrentHashMap<>();
+
+    private final Font font;
+    private final FontMetrics metrics;
+    private final Color color;
+    private final BufferedImage atlas;
+    private final int[] glyphX = new int[LAST - FIRST + 1];
+    private final int[] advance = new int[LAST - FIRST + 1];
+    private final int ascent, cellHeight;
+
+    // Scratch space for formatting integers and drawing fallback characters without allocating
+    private final char[] digits = new char[11];
+    private final char[] single = new char[1];
+
+    /**
+     * Returns the shared atlas for a font, color and antialiasing setting, building it on first use.
+     */
+    public static GlyphAtlas get(Font font, Color color, boolean antialias) {
+        String key = font.getFontName() + '/' + font.getStyle() + '/' + font.getSize2D() + '/' + color.getRGB()
+                + '/' + antialias;
+        return cache.computeIfAbsent(key, k -> new GlyphAtlas(font, color, antialias));
+    }
+
+    private GlyphAtlas(Font font, Color color, boolean antialias) {
+        this.font = font;
+        this.color = color;
+
+        // Measure every glyph with a throwaway context using the same hints as rasterization
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D mg = scratch.createGraphics();
+        applyHints(mg, antialias);
+        FontMetrics fm = mg.getFontMetrics(font);
+        mg.dispose();
+        metrics = fm;
+
+        ascent = fm.getAscent();
+        cellHeight = fm.getAscent() + fm.getDescent();
+        // Glyphs may overhang their advance slightly, so each cell gets some padding
+        int pad = Math.max(2, font.getSize() / 4);
+        int width = 0;
+        for (char c = FIRST; c <= LAST; c++) {
+            advance[c - FIRST] = fm.charWidth(c);
+            glyphX[c - FIRST] = width + pad;
+            width += advance[c - FIRST] + pad * 2;
+        }
+
+        atlas = new BufferedImage(Math.max(1, width), Math.max(1, cellHeight), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = atlas.createGraphics();
+        applyHints(g, antialias);
+        g.setFont(font);
+        g.setColor(color);
+        char[] one = new char[1];
+        for (char c = FIRST; c <= LAST; c++) {
+            one[0] = c;
+            g.drawChars(one, 0, 1, glyphX[c - FIRST], ascent);
+        }
+        g.dispose();
+    }
+
+    private static void applyHints(Graphics2D g, boolean antialias) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                antialias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                antialias ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+    }
+
+    public int getAscent() { return ascent; }
+
+    /**
+     * Draws text with its baseline at y, like {@link Graphics#drawString(String, int, int)}.
+     * @return The x coordinate just after the last character.
+     */
+    public int drawString(Graphics g, CharSequence text, int x, int y) {
+        for (int i = 0, n = text.length(); i < n; i++) {
+            x = drawChar(g, text.charAt(i), x, y);
+        }
+        return x;
+    }
+
+    /**
+     * Draws a decimal integer with its baseline at y without allocating.
+     * @return The x coordinate just after the last digit.
+     */
+    public int drawInt(Graphics g, int value, int x, int y) {
+        int start = format(value);
+        for (int i = start; i < digits.length; i++) {
+            x = drawChar(g, digits[i], x, y);
+        }
+        return x;
+    }
+
+    /**
+     * Returns the advance width of the text in pixels.
+     */
+    public int stringWidth(CharSequence text) {
+        int w = 0;
+        for (int i = 0, n = text.length(); i < n; i++) w += charWidth(text.charAt(i));
+        return w;
+    }
+
+    /**
+     * Returns the advance width of a decimal integer in pixels.
+     */
+    public int intWidth(int value) {
+        int w = 0;
+        for (int i = format(value); i < digits.length; i++) w += charWidth(digits[i]);
+        return w;
+    }
+
+    private int charWidth(char c) {
+        if (c >= FIRST && c <= LAST) return advance[c - FIRST];
+        return metrics.charWidth(c);
+    }
+
+    private int drawChar(Graphics g, char c, int x, int y) {
+        if (c < FIRST || c > LAST) {
+            // Rare non-ASCII character (e.g. in a username): render it directly
+            g.setFont(font);
+            g.setColor(color);
+            single[0] = c;
+            g.drawChars(single, 0, 1, x, y);
+            return x + charWidth(c);
+        }
+        int i = c - FIRST;
+        int w = advance[i];
+        if (c != ' ') {
+            // Copy the padded cell so overhanging pixels are kept
+            int pad = glyphX[0];
+            int sx = glyphX[i] - pad;
+            int top = y - ascent;
+            g.drawImage(atlas, x - pad, top, x - pad + w + pad * 2, top + cellHeight,
+                    sx, 0, sx + w + pad * 2, cellHeight, null);
+        }
+        return x + w;
+    }
+
+    /**
+     * Writes the digits of value right-aligned into the scratch buffer.
+     * @return The index of the first character.
+     */
+    private int format(int value) {
+        int pos = digits.length;
+        long v = value;
+        boolean negative = v < 0;
+        if (negative) v = -v;
+        do {
+            digits[--pos] = (char) ('0' + (v % 10));
+            v /= 10;
+        } while (v != 0);
+        if (negative) digits[--pos] = '-';
+        return pos;
+    }
+}
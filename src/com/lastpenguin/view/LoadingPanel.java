@@ -0,0 +1,50 @@
+package com.lastpenguin.view;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Splash screen shown while {@link AssetRegistry} decodes the game assets.
+ * Draws only built-in shapes and fonts, since nothing else is loaded yet.
+ */
+public class LoadingPanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private final Timer progressTimer;
+
+    public LoadingPanel() {
+        setPreferredSize(new Dimension(GameWindow.WIDTH, GameWindow.HEIGHT));
+        setBackground(new Color(20, 30, 45));
+        // Poll the registry's progress for the bar
+        progressTimer = new Timer(50, e -> repaint());
+        progressTimer.start();
+    }
+
+    /**
+     * Stops the progress animation once the panel is no longer needed.
+     */
+    public void dispose() {
+        progressTimer.stop();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        int barW = 400, barH = 16;
+        int barX = (getWidth() - barW) / 2;
+        int barY = getHeight() / 2 + 20;
+
+        g2.setColor(new Color(200, 240, 255));
+        g2.setFont(new Font("Arial", Font.BOLD, 28));
+        String title = "LOADING...";
+        FontMetrics fm = g2.getFontMetrics();
+        g2.drawString(title, (getWidth() - fm.stringWidth(title)) / 2, barY - 30);
+
+        g2.drawRoundRect(barX, barY, barW, barH, barH, barH);
+        int filled = Math.round(barW * AssetRegistry.getProgress());
+        if (filled > 0) g2.fillRoundRect(barX, barY, filled, barH, barH, barH);
+    }
+}
@@ -5,8 +5,6 @@ import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.*;
-
-import java.io.IOException;
 import java.util.List;
 
 /**
@@ -46,22 +44,13 @@ public class MenuPanel extends JPanel {
      * Loads external resources such as background images and custom typography.
      */
     private void loadResources() {
-        try {
-            backgroundImage = new javax.swing.ImageIcon(getClass().getResource("/assets/images/ui/main_menu_bg.png"))
-                    .getImage();
-        } catch (Exception e) {
-            System.err.println("Failed to load menu background: " + e.getMessage());
+        backgroundImage = AssetRegistry.getImage("ui/main_menu_bg.png");
+        if (backgroundImage == null) {
+            System.err.println("Failed to load menu background");
         }
 
-        try {
-            customFont = Font
-                    .createFont(Font.TRUETYPE_FONT, getClass().getResourceAsStream("/assets/fonts/icy_font.ttf"))
-                    .deriveFont(24f);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(customFont);
-        } catch (IOException | FontFormatException e) {
-            customFont = new Font("Arial", Font.BOLD, 20);
-        }
+        Font baseFont = AssetRegistry.getFont();
+        customFont = baseFont != null ? baseFont.deriveFont(24f) : new Font("Arial", Font.BOLD, 20);
     }
 
     /**
@@ -0,0 +1,137 @@
+package com.lastpenguin.view;
+
+import com.lastpenguin.model.ParticleSystem;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Batched draw pass for a {@link ParticleSystem}.
+ * <p>
+ * Each frame the particles are counting-sorted by type and opacity level into a
+ * preallocated index buffer, so the Graphics state changes once per batch instead of
+ * once per particle, and drawing allocates nothing. Moving particles are blitted from
+ * small pre-filled translucent squares, one per type and level, since a translucent
+ * fillRect allocates on every call in the software pipeline.
+ * Footprints are drawn under the actors; everything else on top of them.
+ */
+public class ParticleRenderer {
+    /** Number of discrete opacity levels; each level is one batch per type. */
+    private static final int ALPHA_LEVELS = 8;
+    private static final int BATCHES = ParticleSystem.TYPE_COUNT * ALPHA_LEVELS;
+
+    // Base colors and square sizes of the moving particle types, indexed by type
+    private static final Color[] BASE_COLORS = {
+        new Color(245, 250, 255), new Color(170, 220, 255), new Color(255, 140, 40), Color.WHITE
+    };
+    private static final int[] SIZES = {4, 3, 3, 0};
+
+    private final BufferedImage[][] squares = new BufferedImage[ParticleSystem.TYPE_COUNT][ALPHA_LEVELS];
+    private final AlphaComposite[] composites = new AlphaComposite[ALPHA_LEVELS];
+    private final BufferedImage footstepImg;
+
+    private int[] order = new int[ParticleSystem.DEFAULT_CAPACITY];
+    private int[] batchKey = new int[ParticleSystem.DEFAULT_CAPACITY];
+    private final int[] batchStart = new int[BATCHES + 1];
+
+    /**
+     * @param footstepImg Footprint sprite already scaled to its draw size, or null to skip footprints.
+     */
+    public ParticleRenderer(BufferedImage footstepImg) {
+        this.footstepImg = footstepImg;
+        for (int level = 0; level < ALPHA_LEVELS; level++) {
+            float alpha = (level + 1) / (float) ALPHA_LEVELS;
+            composites[level] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha);
+            for (int t = 0; t < ParticleSystem.TYPE_COUNT; t++) {
+                if (SIZES[t] == 0) continue;
+                Color c = BASE_COLORS[t];
+                squares[t][level] = createSquare(SIZES[t],
+                        new Color(c.getRed(), c.getGreen(), c.getBlue(), Math.round(alpha * 255)));
+            }
+        }
+    }
+
+    private static BufferedImage createSquare(int size, Color color) {
+        BufferedImage square = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = square.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.setColor(color);
+            g.fillRect(0, 0, size, size);
+        } finally {
+            g.dispose();
+        }
+        return square;
+    }
+
+    /**
+     * Sorts the live particles into batches. Call once per frame before the draw passes.
+     * Callers must hold the game state lock.
+     */
+    public void prepare(ParticleSystem particles) {
+        int n = particles.size();
+        if (order.length < n) {
+            // Only reached if the system was built with a larger capacity than the default
+            order = new int[particles.capacity()];
+            batchKey = new int[particles.capacity()];
+        }
+
+        int[] counts = batchStart;
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < n; i++) {
+            int level = Math.min(ALPHA_LEVELS - 1, (int) (particles.getOpacity(i) * ALPHA_LEVELS));
+            int key = particles.getType(i) * ALPHA_LEVELS + level;
+            batchKey[i] = key;
+            counts[key + 1]++;
+        }
+        for (int b = 0; b < BATCHES; b++) counts[b + 1] += counts[b];
+        // Scatter using batchStart as running cursors, then shift the cursors back into starts
+        for (int i = 0; i < n; i++) order[counts[batchKey[i]]++] = i;
+        for (int b = BATCHES; b > 0; b--) counts[b] = counts[b - 1];
+        counts[0] = 0;
+    }
+
+    /**
+     * Draws the footprints, which never move.
+     */
+    public void drawGround(Graphics2D g, ParticleSystem particles) {
+        if (footstepImg == null) return;
+        Composite previous = g.getComposite();
+        int halfW = footstepImg.getWidth() / 2, halfH = footstepImg.getHeight() / 2;
+        for (int level = 0; level < ALPHA_LEVELS; level++) {
+            int b = ParticleSystem.FOOTSTEP * ALPHA_LEVELS + level;
+            int from = batchStart[b], to = batchStart[b + 1];
+            if (from == to) continue;
+            g.setComposite(composites[level]);
+            for (int k = from; k < to; k++) {
+                int i = order[k];
+                g.drawImage(footstepImg, (int) particles.getX(i) - halfW, (int) particles.getY(i) - halfH, null);
+            }
+        }
+        g.setComposite(previous);
+    }
+
+    /**
+     * Draws every moving particle as a small square, interpolated between the last two ticks.
+     */
+    public void drawAir(Graphics2D g, ParticleSystem particles, float alpha) {
+        for (int t = 0; t < ParticleSystem.TYPE_COUNT; t++) {
+            if (t == ParticleSystem.FOOTSTEP) continue;
+            int size = SIZES[t], half = size / 2;
+            for (int level = 0; level < ALPHA_LEVELS; level++) {
+                int b = t * ALPHA_LEVELS + level;
+                int from = batchStart[b], to = batchStart[b + 1];
+                if (from == to) continue;
+                BufferedImage square = squares[t][level];
+                for (int k = from; k < to; k++) {
+                    int i = order[k];
+                    float px = particles.getPrevX(i), py = particles.getPrevY(i);
+                    int x = (int) (px + (particles.getX(i) - px) * alpha);
+                    int y = (int) (py + (particles.getY(i) - py) * alpha);
+                    g.drawImage(square, x - half, y - half, null);
+                }
+            }
+        }
+    }
+}
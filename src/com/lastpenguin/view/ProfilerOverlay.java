@@ -0,0 +1,68 @@
+package com.lastpenguin.view;
+
+import com.lastpenguin.presenter.FrameProfiler;
+
+import java.awt.*;
+
+/**
+ * Developer overlay listing the p50/p99/max time of every profiled frame phase, in
+ * microseconds, together with the current entity counts. Toggled with F3 in game.
+ * Drawn entirely from glyph atlases, so showing it does not disturb the numbers it reports.
+ */
+public class ProfilerOverlay {
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    private static final int LINE_HEIGHT = 14;
+    private static final int X = 10, WIDTH = 300;
+    // Right edges of the numeric columns
+    private static final int COL_P50 = X + 160, COL_P99 = X + 220, COL_MAX = X + 285;
+
+    private final GlyphAtlas text = GlyphAtlas.get(new Font(Font.MONOSPACED, Font.PLAIN, 12), Color.WHITE, false);
+    private final GlyphAtlas header = GlyphAtlas.get(new Font(Font.MONOSPACED, Font.BOLD, 12), new Color(255, 220, 120), false);
+
+    /**
+     * Draws the overlay in the bottom-left corner. Callers must hold the game state lock.
+     */
+    public void draw(Graphics g, FrameProfiler profiler) {
+        int height = LINE_HEIGHT * (FrameProfiler.PHASE_COUNT + 4) + 8;
+        int top = 600 - height - 10;
+        g.setColor(BACKGROUND);
+        g.fillRect(X - 5, top, WIDTH + 10, height);
+
+        int y = top + LINE_HEIGHT;
+        header.drawString(g, "phase (us)", X, y);
+        drawRight(header, g, "p50", COL_P50, y);
+        drawRight(header, g, "p99", COL_P99, y);
+        drawRight(header, g, "max", COL_MAX, y);
+
+        for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+            y += LINE_HEIGHT;
+            text.drawString(g, FrameProfiler.getPhaseName(phase), X, y);
+            drawMicros(g, profiler.getP50(phase), COL_P50, y);
+            drawMicros(g, profiler.getP99(phase), COL_P99, y);
+            drawMicros(g, profiler.getMax(phase), COL_MAX, y);
+        }
+
+        y += LINE_HEIGHT + 4;
+        int x = text.drawString(g, "yetis ", X, y);
+        x = text.drawInt(g, profiler.getCount(FrameProfiler.YETIS), x, y);
+        x = text.drawString(g, "  shots ", x, y);
+        text.drawInt(g, profiler.getCount(FrameProfiler.PROJECTILES), x, y);
+        y += LINE_HEIGHT;
+        x = text.drawString(g, "obstacles ", X, y);
+        x = text.drawInt(g, profiler.getCount(FrameProfiler.OBSTACLE_COUNT), x, y);
+        x = text.drawString(g, "  meteors ", x, y);
+        text.drawInt(g, profiler.getCount(FrameProfiler.METEOR_COUNT), x, y);
+        y += LINE_HEIGHT;
+        x = text.drawString(g, "particles ", X, y);
+        text.drawInt(g, profiler.getCount(FrameProfiler.PARTICLE_COUNT), x, y);
+    }
+
+    private void drawMicros(Graphics g, long nanos, int right, int y) {
+        int micros = (int) Math.min(Integer.MAX_VALUE, nanos / 1000);
+        text.drawInt(g, micros, right - text.intWidth(micros), y);
+    }
+
+    private static void drawRight(GlyphAtlas atlas, Graphics g, String s, int right, int y) {
+        atlas.drawString(g, s, right - atlas.stringWidth(s), y);
+    }
+}
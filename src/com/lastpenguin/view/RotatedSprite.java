@@ -0,0 +1,32 @@
+package com.lastpenguin.view;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+/**
+ * A set of frames showing the same image pre-rotated around a pivot point.
+ * Drawing picks the frame nearest to the requested angle and copies it unscaled,
+ * replacing a per-frame rotated draw through a transformed Graphics2D.
+ */
+public class RotatedSprite {
+    private final BufferedImage[] frames;
+    // Top-left corner of each frame relative to the pivot
+    private final int[] originX, originY;
+
+    public RotatedSprite(BufferedImage[] frames, int[] originX, int[] originY) {
+        this.frames = frames;
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    /**
+     * Draws the frame closest to the given angle with its pivot at (pivotX, pivotY).
+     * @param angle The rotation in radians, as returned by {@link Math#atan2(double, double)}.
+     */
+    public void draw(Graphics g, int pivotX, int pivotY, double angle) {
+        int n = frames.length;
+        int i = (int) Math.round(angle / (2 * Math.PI) * n) % n;
+        if (i < 0) i += n;
+        g.drawImage(frames[i], pivotX + originX[i], pivotY + originY[i], null);
+    }
+}
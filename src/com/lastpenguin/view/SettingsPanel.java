@@ -55,7 +55,7 @@ public class SettingsPanel extends JPanel {
 
         // --- ROW 1: DIFFICULTY CONFIGURATION ---
         addLabel("Difficulty:", labelX, startY);
-        diffBox = new JComboBox<>(new String[] { GameSettings.EASY, GameSettings.MEDIUM, GameSettings.HARD });
+        diffBox = new JComboBox<>(new String[] { GameSettings.EASY, GameSettings.MEDIUM, GameSettings.HARD, GameSettings.ENDLESS });
         diffBox.setSelectedItem(current.getDifficulty());
         diffBox.setBounds(controlX, startY, 170, 30);
         styleComboBox(diffBox);
@@ -146,17 +146,9 @@ public class SettingsPanel extends JPanel {
      * fonts.
      */
     private void loadResources() {
-        try {
-            backgroundImage = new ImageIcon(getClass().getResource("/assets/images/ui/settings_bg.png")).getImage();
-            customFont = Font
-                    .createFont(Font.TRUETYPE_FONT, getClass().getResourceAsStream("/assets/fonts/icy_font.ttf"))
-                    .deriveFont(18f);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(customFont);
-        } catch (Exception e) {
-            System.err.println("Error loading settings resources: " + e.getMessage());
-            customFont = new Font("Arial", Font.BOLD, 18);
-        }
+        backgroundImage = AssetRegistry.getImage("ui/settings_bg.png");
+        Font baseFont = AssetRegistry.getFont();
+        customFont = baseFont != null ? baseFont : new Font("Arial", Font.BOLD, 18);
     }
 
     /**
@@ -2,6 +2,7 @@
 package com.lastpenguin.view;
 
 import com.lastpenguin.model.GameSettings;
+import com.lastpenguin.presenter.SoundEffects;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
@@ -11,9 +12,10 @@ import java.net.URL;
  * Handles audio playback for the application.
  * This class manages both short-duration sound effects and continuous 
  * background music, integrating directly with user settings to control 
- * playback availability.
+ * playback availability. Effects are served from the pre-decoded {@link SoundBank}
+ * and mixed by the shared {@link SoundMixer}; music keeps its own looping clip.
  */
-public class Sound {
+public class Sound implements SoundEffects {
     private Clip musicClip;
     private GameSettings settings;
 
@@ -28,21 +30,15 @@ public class Sound {
     /**
      * Plays a specific sound effect file.
      * Playback is automatically bypassed if the SFX volume is disabled 
-     * within the game settings.
+     * within the game settings; otherwise the volume sets the voice gain.
      */
+    @Override
     public void playEffect(String fileName) {
         // Validates if SFX playback is enabled based on user configurations
-        if (settings != null && settings.getSfxVolume() <= 0) return;
+        int volume = settings != null ? settings.getSfxVolume() : 100;
+        if (volume <= 0) return;
 
-        try {
-            URL url = getClass().getResource("/assets/sounds/" + fileName);
-            AudioInputStream ais = AudioSystem.getAudioInputStream(url);
-            Clip sfx = AudioSystem.getClip();
-            sfx.open(ais);
-            sfx.start();
-        } catch (Exception e) {
-            System.err.println("SFX Error: " + fileName + " - " + e.getMessage());
-        }
+        SoundMixer.get().play(fileName, volume / 100f);
     }
 
     /**
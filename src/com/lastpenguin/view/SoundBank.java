@@ -0,0 +1,110 @@
+package com.lastpenguin.view;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of decoded sound effects.
+ * Every WAV file is decoded once into interleaved 16-bit PCM at the mixer's output
+ * format ({@link #SAMPLE_RATE} Hz, stereo), so playback only has to copy samples.
+ */
+public final class SoundBank {
+    public static final float SAMPLE_RATE = 44100f;
+    public static final int CHANNELS = 2;
+
+    /** Every effect shipped in /assets/sounds/, decoded up front by {@link #preloadAll()}. */
+    private static final String[] EFFECTS = {
+        "sfx_ammo_refill.wav", "sfx_click.wav", "sfx_click_ice.wav", "sfx_game_over.wav",
+        "sfx_hit_obstacle.wav", "sfx_ice_break.wav", "sfx_keyboard.wav", "sfx_low_ammo.wav",
+        "sfx_shoot.wav", "sfx_skill_ghost.wav", "sfx_skill_giant.wav", "sfx_skill_meteor.wav",
+        "sfx_walk.wav", "sfx_yeti_die.wav", "sfx_yeti_shoot.wav", "sfx_yeti_spawn.wav"
+    };
+
+    private static final short[] SILENCE = new short[0];
+    private static final Map<String, short[]> cache = new ConcurrentHashMap<>();
+
+    private SoundBank() {}
+
+    /**
+     * Decodes every known effect. Intended to run once during startup.
+     */
+    public static void preloadAll() {
+        for (String name : EFFECTS) get(name);
+    }
+
+    /**
+     * Lists every known effect file, e.g. for decoding them in parallel.
+     */
+    static String[] effectNames() {
+        return EFFECTS.clone();
+    }
+
+    /**
+     * Returns the decoded samples for an effect, decoding and caching it on first use.
+     * Files that cannot be decoded map to an empty buffer so they are not retried.
+     */
+    public static short[] get(String fileName) {
+        short[] pcm = cache.get(fileName);
+        if (pcm == null) {
+            pcm = cache.computeIfAbsent(fileName, SoundBank::decode);
+        }
+        return pcm;
+    }
+
+    /**
+     * Reads a WAV resource and converts it to stereo 16-bit PCM at {@link #SAMPLE_RATE}.
+     */
+    private static short[] decode(String fileName) {
+        InputStream raw = AssetLoader.getSoundStream(fileName);
+        if (raw == null) {
+            System.err.println("SFX Error: " + fileName + " - resource not found");
+            return SILENCE;
+        }
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(raw))) {
+            AudioFormat src = source.getFormat();
+            int channels = src.getChannels();
+            AudioFormat pcm16 = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, src.getSampleRate(), 16,
+                    channels, channels * 2, src.getSampleRate(), false);
+
+            byte[] bytes;
+            try (AudioInputStream decoded = AudioSystem.getAudioInputStream(pcm16, source)) {
+                bytes = decoded.readAllBytes();
+            }
+
+            // Mix the source down/up to stereo frames at the native rate
+            int frames = bytes.length / (channels * 2);
+            float[] left = new float[frames];
+            float[] right = new float[frames];
+            for (int f = 0; f < frames; f++) {
+                int base = f * channels * 2;
+                float l = (short) ((bytes[base] & 0xFF) | (bytes[base + 1] << 8));
+                float r = l;
+                if (channels > 1) r = (short) ((bytes[base + 2] & 0xFF) | (bytes[base + 3] << 8));
+                left[f] = l;
+                right[f] = r;
+            }
+
+            // Linear resample to the mixer rate
+            double step = src.getSampleRate() / SAMPLE_RATE;
+            int outFrames = (int) (frames / step);
+            short[] out = new short[outFrames * CHANNELS];
+            for (int f = 0; f < outFrames; f++) {
+                double pos = f * step;
+                int i = (int) pos;
+                float t = (float) (pos - i);
+                int j = Math.min(i + 1, frames - 1);
+                out[f * 2] = (short) (left[i] + (left[j] - left[i]) * t);
+                out[f * 2 + 1] = (short) (right[i] + (right[j] - right[i]) * t);
+            }
+            return out;
+        } catch (Exception e) {
+            System.err.println("SFX Error: " + fileName + " - " + e.getMessage());
+            return SILENCE;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.lastpenguin.view;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+
+/**
+ * Software mixer that plays every sound effect through a single output line.
+ * A fixed pool of voices references PCM buffers from {@link SoundBank}; a daemon
+ * thread sums the active voices, applies each voice's gain and writes the result to
+ * one {@link SourceDataLine}. Starting a voice only claims a pool slot, so effects
+ * can be triggered from the game loop without decoding, allocating or opening lines.
+ */
+public final class SoundMixer implements Runnable {
+    private static final int VOICES = 24;
+    private static final int CHUNK_FRAMES = 256;
+    private static final int LINE_BUFFER_FRAMES = 2048;
+
+    private static SoundMixer instance;
+
+    private final Object lock = new Object();
+    private final short[][] voiceData = new short[VOICES][];
+    private final int[] voicePos = new int[VOICES];
+    private final float[] voiceGain = new float[VOICES];
+    private int activeVoices = 0;
+
+    private final int[] mixBuffer = new int[CHUNK_FRAMES * SoundBank.CHANNELS];
+    private final byte[] outBuffer = new byte[CHUNK_FRAMES * SoundBank.CHANNELS * 2];
+    private SourceDataLine line;
+
+    private SoundMixer() {}
+
+    /**
+     * Returns the shared mixer, opening the output line and starting its thread on first use.
+     */
+    public static synchronized SoundMixer get() {
+        if (instance == null) {
+            instance = new SoundMixer();
+            instance.open();
+        }
+        return instance;
+    }
+
+    private void open() {
+        AudioFormat format = new AudioFormat(SoundBank.SAMPLE_RATE, 16, SoundBank.CHANNELS, true, false);
+        try {
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, LINE_BUFFER_FRAMES * format.getFrameSize());
+            line.start();
+            Thread thread = new Thread(this, "sfx-mixer");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (Exception e) {
+            // No usable audio device; effects become no-ops
+            System.err.println("SFX Error: output line unavailable - " + e.getMessage());
+            line = null;
+        }
+    }
+
+    /**
+     * Starts a voice for the given effect. When all voices are busy, the voice that
+     * has played the longest is replaced.
+     * @param gain Linear gain in [0, 1].
+     */
+    public void play(String fileName, float gain) {
+        if (line == null || gain <= 0) return;
+        short[] pcm = SoundBank.get(fileName);
+        if (pcm.length == 0) return;
+
+        synchronized (lock) {
+            int slot = -1, oldest = -1;
+            for (int v = 0; v < VOICES; v++) {
+                if (voiceData[v] == null) { slot = v; break; }
+                if (oldest == -1 || voicePos[v] > voicePos[oldest]) oldest = v;
+            }
+            if (slot == -1) {
+                slot = oldest;
+            } else {
+                activeVoices++;
+            }
+            voiceData[slot] = pcm;
+            voicePos[slot] = 0;
+            voiceGain[slot] = Math.min(gain, 1f);
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Mixer thread: waits while idle, otherwise mixes and writes one chunk at a time.
+     * The blocking {@link SourceDataLine#write} call paces the loop to real time.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            synchronized (lock) {
+                while (activeVoices == 0) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                mixChunk();
+            }
+            line.write(outBuffer, 0, outBuffer.length);
+        }
+    }
+
+    /**
+     * Sums all active voices into the output buffer, clamping to 16-bit range.
+     * Caller must hold the voice lock.
+     */
+    private void mixChunk() {
+        Arrays.fill(mixBuffer, 0);
+        for (int v = 0; v < VOICES; v++) {
+            short[] data = voiceData[v];
+            if (data == null) continue;
+            float gain = voiceGain[v];
+            int pos = voicePos[v];
+            int n = Math.min(mixBuffer.length, data.length - pos);
+            for (int i = 0; i < n; i++) {
+                mixBuffer[i] += (int) (data[pos + i] * gain);
+            }
+            pos += n;
+            if (pos >= data.length) {
+                voiceData[v] = null;
+                activeVoices--;
+            } else {
+                voicePos[v] = pos;
+            }
+        }
+        for (int i = 0; i < mixBuffer.length; i++) {
+            int s = mixBuffer[i];
+            if (s > Short.MAX_VALUE) s = Short.MAX_VALUE;
+            else if (s < Short.MIN_VALUE) s = Short.MIN_VALUE;
+            outBuffer[i * 2] = (byte) s;
+            outBuffer[i * 2 + 1] = (byte) (s >> 8);
+        }
+    }
+}